@@ -12,3 +12,5 @@
 -keep class com.facebook.jni.** { *; }
 -keep class com.shopify.reactnative.skia.** { *; }
 -dontwarn io.branch.**
+# bcprov references JNDI for its LDAP cert store, which we never use
+-dontwarn javax.naming.**
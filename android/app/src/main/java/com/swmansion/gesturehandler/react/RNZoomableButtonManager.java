@@ -4,6 +4,7 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.os.Handler;
 import android.os.Looper;
+import android.view.Choreographer;
 import android.view.MotionEvent;
 import android.view.animation.Animation;
 import android.view.animation.Interpolator;
@@ -23,6 +24,8 @@ import com.facebook.react.uimanager.events.RCTEventEmitter;
 import javax.annotation.Nullable;
 import java.util.Map;
 
+import me.rainbow.NativeModules.FrameMetrics.FrameMetrics;
+
 @ReactModule(name = "RNZoomableButton")
 public class RNZoomableButtonManager extends ViewGroupManager<RNGestureHandlerButtonViewManager.ButtonViewGroup> {
 
@@ -45,10 +48,40 @@ public class RNZoomableButtonManager extends ViewGroupManager<RNGestureHandlerBu
         private final Handler mHandler = new Handler(Looper.getMainLooper());
         private Runnable mLongPressRunnable;
 
+        // Records the vsync-to-vsync interval of every frame the scale runs in, so a press
+        // that janks shows up in FrameMetrics#ZOOMABLE_BUTTON as a long frame.
+        private long mLastFrameNanos;
+        private final Choreographer.FrameCallback mFrameTimer = new Choreographer.FrameCallback() {
+            @Override
+            public void doFrame(long frameTimeNanos) {
+                if (mLastFrameNanos != 0) {
+                    FrameMetrics.ZOOMABLE_BUTTON.recordDuration(frameTimeNanos - mLastFrameNanos, 1);
+                }
+                Animation animation = getAnimation();
+                if (animation == null || animation.hasEnded()) {
+                    mLastFrameNanos = 0;
+                    return;
+                }
+                mLastFrameNanos = frameTimeNanos;
+                Choreographer.getInstance().postFrameCallback(this);
+            }
+        };
+
         public ZoomableButtonViewGroup(Context context) {
             super(context);
         }
 
+        private void stopFrameTimer() {
+            Choreographer.getInstance().removeFrameCallback(mFrameTimer);
+            mLastFrameNanos = 0;
+        }
+
+        @Override
+        protected void onDetachedFromWindow() {
+            stopFrameTimer();
+            super.onDetachedFromWindow();
+        }
+
         private void animate(boolean in) {
             if (mIsActive == in) {
                 return;
@@ -66,6 +99,8 @@ public class RNZoomableButtonManager extends ViewGroupManager<RNGestureHandlerBu
             anim.setDuration(mDuration);
             anim.setInterpolator(bezierInterpolator);
             this.startAnimation(anim);
+            stopFrameTimer();
+            Choreographer.getInstance().postFrameCallback(mFrameTimer);
         }
 
         @SuppressLint("ClickableViewAccessibility")
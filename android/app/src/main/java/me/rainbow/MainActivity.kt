@@ -15,14 +15,25 @@ import me.rainbow.NativeModules.RNBackHandler.RNBackHandlerPackage
 
 class MainActivity : ReactActivity() {
     override fun onCreate(savedInstanceState: Bundle?) {
-        val isE2ETest = intent.extras?.getBoolean("isE2ETest") ?: false;
-        if (!isE2ETest) {
-            RNBootSplash.init(this, R.style.BootTheme) // Initialize the splash screen
+        // Rotation and other re-creations would append a second set of cold-start phases.
+        val record = !startupTraced
+        startupTraced = true
+        startupPhase("MainActivity.onCreate", record) {
+            val isE2ETest = intent.extras?.getBoolean("isE2ETest") ?: false;
+            startupPhase("RNBootSplash.init", record) {
+                if (!isE2ETest) {
+                    RNBootSplash.init(this, R.style.BootTheme) // Initialize the splash screen
+                }
+            }
+            startupPhase("RNScreensFragmentFactory", record) {
+                supportFragmentManager.fragmentFactory = RNScreensFragmentFactory()
+            }
+            startupPhase("ReactActivity.onCreate", record) { super.onCreate(savedInstanceState) }
+            startupPhase("setOkHttpClientFactory", record) {
+                OkHttpClientProvider.setOkHttpClientFactory(CustomNetworkModule())
+            }
+            WebView.setWebContentsDebuggingEnabled(false)
         }
-        supportFragmentManager.fragmentFactory = RNScreensFragmentFactory()
-        super.onCreate(savedInstanceState)
-        OkHttpClientProvider.setOkHttpClientFactory(CustomNetworkModule())
-        WebView.setWebContentsDebuggingEnabled(false)
     }
 
     /**
@@ -57,4 +68,9 @@ class MainActivity : ReactActivity() {
 
     override fun createReactActivityDelegate(): ReactActivityDelegate =
         ReactActivityDelegate(this, mainComponentName)
+
+    companion object {
+        // Main thread only.
+        private var startupTraced = false
+    }
 }
@@ -19,7 +19,11 @@ import me.rainbow.NativeModules.RNBip39.RNBip39Package
 import me.rainbow.NativeModules.RNTextAnimatorPackage.RNTextAnimatorPackage
 import me.rainbow.NativeModules.RNZoomableButton.RNZoomableButtonPackage
 import me.rainbow.NativeModules.NavbarHeight.NavbarHeightPackage
+import me.rainbow.NativeModules.AppInstallInfo.AppInstallInfoModule
 import me.rainbow.NativeModules.AppInstallInfo.AppInstallInfoPackage
+import me.rainbow.NativeModules.FrameMetrics.FrameMetricsPackage
+import me.rainbow.NativeModules.StartupTrace.StartupTrace
+import me.rainbow.NativeModules.StartupTrace.StartupTracePackage
 import com.shopify.reactnativeperformance.ReactNativePerformance;
 
 class MainApplication : Application(), ReactApplication {
@@ -29,6 +33,10 @@ class MainApplication : Application(), ReactApplication {
         }
 
         override fun getPackages(): List<ReactPackage> {
+            return startupPhase("getPackages") { createPackages() }
+        }
+
+        private fun createPackages(): List<ReactPackage> {
             val packages: MutableList<ReactPackage> = PackageList(this).packages
             // Packages that cannot be autolinked yet can be added manually here, for example:
             packages.add(RNBip39Package())
@@ -39,6 +47,8 @@ class MainApplication : Application(), ReactApplication {
             packages.add(RNHapticsPackage())
             packages.add(NavbarHeightPackage())
             packages.add(AppInstallInfoPackage())
+            packages.add(FrameMetricsPackage())
+            packages.add(StartupTracePackage())
             return packages
         }
 
@@ -52,13 +62,26 @@ class MainApplication : Application(), ReactApplication {
 
     override fun onCreate() {
         ReactNativePerformance.onAppStarted();
-        super.onCreate()
-        appContext = this
-        loadReactNative(this)
-        // Branch logging for debugging
-        RNBranchModule.enableLogging()
-        RNBranchModule.getAutoInstance(this)
-      ApplicationLifecycleDispatcher.onApplicationCreate(this)
+        startupPhase("Application.onCreate") {
+            super.onCreate()
+            appContext = this
+            // Warm-up that doesn't need the main thread overlaps with loading React Native below.
+            StartupGraph()
+                .add("jceProviders") { RNBip39Package.warmUpCrypto() }
+                .add("bip39Wordlist") { RNBip39Package.warmUpWordlist() }
+                .add("installSource") { AppInstallInfoModule.warmUp(this) }
+                .add("haptics") { RNHapticsPackage.warmUp(this) }
+                .start()
+            startupPhase("loadReactNative") { loadReactNative(this) }
+            // Branch logging for debugging
+            startupPhase("Branch.getAutoInstance") {
+                RNBranchModule.enableLogging()
+                RNBranchModule.getAutoInstance(this)
+            }
+            startupPhase("ApplicationLifecycleDispatcher.onApplicationCreate") {
+                ApplicationLifecycleDispatcher.onApplicationCreate(this)
+            }
+        }
   }
 
     companion object {
@@ -72,3 +95,19 @@ class MainApplication : Application(), ReactApplication {
     ApplicationLifecycleDispatcher.onConfigurationChanged(this, newConfig)
   }
 }
+
+/**
+ * Runs [block] as a [StartupTrace] phase. The phase ends in a finally block, so the Trace
+ * section stays balanced when [block] throws. With [record] false it just runs [block].
+ */
+internal inline fun <T> startupPhase(name: String, record: Boolean = true, block: () -> T): T {
+    if (!record) {
+        return block()
+    }
+    val trace = StartupTrace.begin(name)
+    try {
+        return block()
+    } finally {
+        StartupTrace.end(trace)
+    }
+}
@@ -1,6 +1,9 @@
 package me.rainbow.NativeModules.AppInstallInfo
 
+import android.content.Context
 import android.content.pm.PackageManager
+import android.content.pm.Signature
+import android.os.Build
 import com.facebook.react.bridge.ReactApplicationContext
 import com.facebook.react.bridge.ReactContextBaseJavaModule
 import com.facebook.react.bridge.ReactMethod
@@ -47,30 +50,70 @@ class AppInstallInfoModule(reactContext: ReactApplicationContext) :
             UPLOAD_CERT_SHA256,
             DEBUG_CERT_SHA256,
         ).map { sha -> sha.split(":").map { it.toInt(16).toByte() }.toByteArray() }
-    }
 
-    override fun getName(): String = NAME
+        // The signing certificate can't change while the process is alive.
+        @Volatile
+        private var cachedIsStoreInstall: Boolean? = null
 
-    // GET_SIGNATURES is deprecated in favor of GET_SIGNING_CERTIFICATES (API 28+), but our
-    // minSdkVersion is 26. The deprecation reason (signature spoofing by other apps) doesn't
-    // apply here since we only read our own app's certificate.
-    // TODO: migrate to GET_SIGNING_CERTIFICATES + signingInfo once minSdkVersion >= 28.
-    @Suppress("DEPRECATION")
-    @ReactMethod(isBlockingSynchronousMethod = true)
-    fun isStoreInstall(): Boolean {
-        return try {
-            val packageInfo = reactApplicationContext
+        /**
+         * Computes the install source ahead of the first JS call; safe on any thread. Runs as a
+         * startup graph task so the module constant is normally ready before JS asks for it.
+         */
+        fun warmUp(context: Context): Boolean {
+            return cachedIsStoreInstall ?: computeIsStoreInstall(context).also { cachedIsStoreInstall = it }
+        }
+
+        private fun computeIsStoreInstall(context: Context): Boolean {
+            return try {
+                val digest = MessageDigest.getInstance("SHA-256")
+                signingCertificates(context).none { cert ->
+                    val fingerprint = digest.digest(cert.toByteArray())
+                    KNOWN_INTERNAL_FINGERPRINTS.any { fingerprint.contentEquals(it) }
+                }
+            } catch (_: Exception) {
+                // Unknown signing state - default to store install (safe: no dev tools exposed)
+                true
+            }
+        }
+
+        /**
+         * On API 28+ this includes every certificate in the rotation lineage, so a build signed
+         * with a rotated key whose lineage contains a known Rainbow key still counts as internal.
+         */
+        private fun signingCertificates(context: Context): Array<Signature> {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+                val signingInfo = context
+                    .packageManager
+                    .getPackageInfo(context.packageName, PackageManager.GET_SIGNING_CERTIFICATES)
+                    .signingInfo!!
+                return if (signingInfo.hasMultipleSigners()) {
+                    signingInfo.apkContentsSigners
+                } else {
+                    signingInfo.signingCertificateHistory
+                }
+            }
+            return legacySignatures(context)
+        }
+
+        // GET_SIGNATURES is deprecated in favor of GET_SIGNING_CERTIFICATES, but it is the only
+        // option on API 26-27. The deprecation reason (signature spoofing by other apps) doesn't
+        // apply here since we only read our own app's certificate.
+        // TODO: drop once minSdkVersion >= 28.
+        @Suppress("DEPRECATION")
+        private fun legacySignatures(context: Context): Array<Signature> {
+            return context
                 .packageManager
-                .getPackageInfo(
-                    reactApplicationContext.packageName,
-                    PackageManager.GET_SIGNATURES
-                )
-            val cert = packageInfo.signatures!![0].toByteArray()
-            val fingerprint = MessageDigest.getInstance("SHA-256").digest(cert)
-            KNOWN_INTERNAL_FINGERPRINTS.none { fingerprint.contentEquals(it) }
-        } catch (_: Exception) {
-            // Unknown signing state - default to store install (safe: no dev tools exposed)
-            true
+                .getPackageInfo(context.packageName, PackageManager.GET_SIGNATURES)
+                .signatures!!
         }
     }
+
+    override fun getName(): String = NAME
+
+    // Named apart from isStoreInstall: constants and methods share one namespace on the JS object.
+    override fun getConstants(): Map<String, Any> = mapOf("storeInstall" to warmUp(reactApplicationContext))
+
+    /** Kept for older JS bundles; answers from the same cached value as the constant. */
+    @ReactMethod(isBlockingSynchronousMethod = true)
+    fun isStoreInstall(): Boolean = warmUp(reactApplicationContext)
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package me.rainbow.NativeModules.FrameMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cheap always-on timing for native per-frame work.
+ *
+ * Each instrumented module owns one {@link Recorder}, created once in a static field, so
+ * recording is a handful of atomic adds with no lookup, lock or allocation. Durations go
+ * into power-of-two microsecond buckets; {@link RNFrameMetricsModule} turns them into
+ * snapshots for JS.
+ */
+public final class FrameMetrics {
+    public static final Recorder TEXT_ANIMATOR = new Recorder("textAnimator");
+    public static final Recorder ZOOMABLE_BUTTON = new Recorder("zoomableButton");
+    public static final Recorder HAPTICS = new Recorder("haptics");
+
+    static final Recorder[] ALL = {TEXT_ANIMATOR, ZOOMABLE_BUTTON, HAPTICS};
+
+    /** Bucket i counts durations below 2^i microseconds; the last bucket is open ended. */
+    static final int BUCKET_COUNT = 18;
+    private static final long OVER_8_MS_NANOS = 8_000_000;
+    private static final long OVER_16_MS_NANOS = 16_000_000;
+
+    private FrameMetrics() {}
+
+    public static final class Recorder {
+        final String name;
+        final AtomicLongArray durationBuckets = new AtomicLongArray(BUCKET_COUNT);
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong totalNanos = new AtomicLong();
+        final AtomicLong maxNanos = new AtomicLong();
+        final AtomicLong over8Ms = new AtomicLong();
+        final AtomicLong over16Ms = new AtomicLong();
+        final AtomicLong viewsUpdated = new AtomicLong();
+        final AtomicLong maxViewsUpdated = new AtomicLong();
+
+        private Recorder(String name) {
+            this.name = name;
+        }
+
+        /** Records one unit of work that started at {@code startNanos} (System.nanoTime). */
+        public void record(long startNanos, int views) {
+            recordDuration(System.nanoTime() - startNanos, views);
+        }
+
+        /** Records one unit of work measured by the caller, e.g. a Choreographer frame delta. */
+        public void recordDuration(long duration, int views) {
+            long micros = duration / 1000;
+            int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+            durationBuckets.incrementAndGet(bucket);
+            count.incrementAndGet();
+            totalNanos.addAndGet(duration);
+            updateMax(maxNanos, duration);
+            if (duration > OVER_8_MS_NANOS) {
+                over8Ms.incrementAndGet();
+                if (duration > OVER_16_MS_NANOS) {
+                    over16Ms.incrementAndGet();
+                }
+            }
+            if (views > 0) {
+                viewsUpdated.addAndGet(views);
+                updateMax(maxViewsUpdated, views);
+            }
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                durationBuckets.set(i, 0);
+            }
+            count.set(0);
+            totalNanos.set(0);
+            maxNanos.set(0);
+            over8Ms.set(0);
+            over16Ms.set(0);
+            viewsUpdated.set(0);
+            maxViewsUpdated.set(0);
+        }
+
+        private static void updateMax(AtomicLong max, long value) {
+            long current = max.get();
+            while (value > current && !max.compareAndSet(current, value)) {
+                current = max.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package me.rainbow.NativeModules.FrameMetrics;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+
+public class RNFrameMetricsModule extends ReactContextBaseJavaModule {
+    static final String EVENT_SNAPSHOT = "RNFrameMetricsSnapshot";
+    private static final int MIN_PUBLISH_INTERVAL_MS = 1000;
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private int mPublishIntervalMs;
+    private final Runnable mPublish = new Runnable() {
+        @Override
+        public void run() {
+            if (mPublishIntervalMs <= 0 || !getReactApplicationContext().hasActiveReactInstance()) {
+                return;
+            }
+            getReactApplicationContext()
+                    .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                    .emit(EVENT_SNAPSHOT, snapshot());
+            mHandler.postDelayed(this, mPublishIntervalMs);
+        }
+    };
+
+    public RNFrameMetricsModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+    }
+
+    @Override
+    public String getName() {
+        return "RNFrameMetrics";
+    }
+
+    @ReactMethod
+    public void getSnapshot(Promise promise) {
+        promise.resolve(snapshot());
+    }
+
+    @ReactMethod
+    public void reset() {
+        for (FrameMetrics.Recorder recorder : FrameMetrics.ALL) {
+            recorder.reset();
+        }
+    }
+
+    /** Emits {@code RNFrameMetricsSnapshot} every {@code intervalMs}, at most once a second. */
+    @ReactMethod
+    public void startPublishing(double intervalMs) {
+        final int interval = Math.max(MIN_PUBLISH_INTERVAL_MS, (int) intervalMs);
+        mHandler.post(() -> {
+            mHandler.removeCallbacks(mPublish);
+            mPublishIntervalMs = interval;
+            mHandler.postDelayed(mPublish, interval);
+        });
+    }
+
+    @ReactMethod
+    public void stopPublishing() {
+        mHandler.post(() -> {
+            mPublishIntervalMs = 0;
+            mHandler.removeCallbacks(mPublish);
+        });
+    }
+
+    @ReactMethod
+    public void addListener(String eventName) {
+        // Required for NativeEventEmitter.
+    }
+
+    @ReactMethod
+    public void removeListeners(double count) {
+        // Required for NativeEventEmitter.
+    }
+
+    @Override
+    public void invalidate() {
+        stopPublishing();
+        super.invalidate();
+    }
+
+    /**
+     * {moduleName: {count, totalMs, maxMs, over8Ms, over16Ms, viewsUpdated, maxViewsUpdated,
+     * buckets: [{upToMs, count}]}}. Counters are read one by one, so a snapshot taken while
+     * recording may be off by the ticks in flight.
+     */
+    private static WritableMap snapshot() {
+        WritableMap result = Arguments.createMap();
+        for (FrameMetrics.Recorder recorder : FrameMetrics.ALL) {
+            WritableMap module = Arguments.createMap();
+            module.putDouble("count", recorder.count.get());
+            module.putDouble("totalMs", recorder.totalNanos.get() / 1e6);
+            module.putDouble("maxMs", recorder.maxNanos.get() / 1e6);
+            module.putDouble("over8Ms", recorder.over8Ms.get());
+            module.putDouble("over16Ms", recorder.over16Ms.get());
+            module.putDouble("viewsUpdated", recorder.viewsUpdated.get());
+            module.putDouble("maxViewsUpdated", recorder.maxViewsUpdated.get());
+            WritableArray buckets = Arguments.createArray();
+            for (int i = 0; i < FrameMetrics.BUCKET_COUNT; i++) {
+                long count = recorder.durationBuckets.get(i);
+                if (count == 0) {
+                    continue;
+                }
+                WritableMap bucket = Arguments.createMap();
+                if (i < FrameMetrics.BUCKET_COUNT - 1) {
+                    bucket.putDouble("upToMs", (1L << i) / 1000d);
+                } else {
+                    bucket.putNull("upToMs");
+                }
+                bucket.putDouble("count", count);
+                buckets.pushMap(bucket);
+            }
+            module.putArray("buckets", buckets);
+            result.putMap(recorder.name, module);
+        }
+        return result;
+    }
+}
@@ -1,6 +1,8 @@
 
 package me.rainbow.NativeModules.Haptics;
 
+import android.content.Context;
+
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -11,6 +13,11 @@ import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.uimanager.ViewManager;
 import com.facebook.react.bridge.JavaScriptModule;
 public class RNHapticsPackage implements ReactPackage {
+    /** Looks up the Vibrator and builds the effects before the first haptic is requested. */
+    public static void warmUp(Context context) {
+      RNHapticsPerformer.getInstance(context);
+    }
+
     @Override
     public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
       return Arrays.<NativeModule>asList(new RNRainbowHapticsModule(reactContext));
@@ -1,10 +1,15 @@
-
 package me.rainbow.NativeModules.Haptics;
 
+import android.content.Context;
 import android.os.Build;
 import android.os.VibrationEffect;
 import android.os.Vibrator;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 class RNHapticsPerformer {
   // some phones (e.g., OnePlus 7) are lying about having the amplitude control
   // Then, we make every second tick 0 length with 0 ampl
@@ -29,8 +34,38 @@ class RNHapticsPerformer {
     return results;
   }
 
+  static final int SELECTION = 0;
+  static final int IMPACT_LIGHT = 1;
+  static final int IMPACT_HEAVY = 2;
+  static final int NOTIFICATION_SUCCESS = 3;
+  static final int NOTIFICATION_WARNING = 4;
+  static final int NOTIFICATION_ERROR = 5;
+  static final int BUILT_IN_COUNT = 6;
+
+  // Predefined effects are tuned per device and skip the waveform path entirely.
+  private static final long PREDEFINED_DURATION_MS = 20;
+
+  private static RNHapticsPerformer sInstance;
+
+  /** The vibrator lookup and effect compilation happen once per process. */
+  static synchronized RNHapticsPerformer getInstance(Context context) {
+    if (sInstance == null) {
+      Vibrator vibrator = (Vibrator) context.getApplicationContext().getSystemService(Context.VIBRATOR_SERVICE);
+      sInstance = new RNHapticsPerformer(vibrator);
+    }
+    return sInstance;
+  }
+
   private final Vibrator mVibrator;
   private final boolean mHasAmplitudeControl;
+  // Built once; VibrationEffect is immutable, so the same instance can be replayed forever.
+  private final VibrationEffect[] mEffects = new VibrationEffect[BUILT_IN_COUNT];
+  private final long[] mDurationsMs = new long[BUILT_IN_COUNT];
+  // Custom patterns by handle; handles are indexes and are never reused.
+  private final List<VibrationEffect> mPatterns = new CopyOnWriteArrayList<>();
+  private final List<Long> mPatternDurationsMs = new CopyOnWriteArrayList<>();
+  private final Map<String, Integer> mPatternHandles = new HashMap<>();
+
   RNHapticsPerformer(Vibrator vibrator) {
     mVibrator = vibrator;
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
@@ -38,69 +73,110 @@ class RNHapticsPerformer {
     } else {
       mHasAmplitudeControl = false;
     }
+    // Predefined effects would play without amplitude control, but the waveforms never did on
+    // those devices (see addBreaks), so keep them silent there rather than change the feel.
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q && mHasAmplitudeControl) {
+      setPredefined(SELECTION, VibrationEffect.EFFECT_TICK);
+      setPredefined(IMPACT_LIGHT, VibrationEffect.EFFECT_CLICK);
+      setPredefined(IMPACT_HEAVY, VibrationEffect.EFFECT_HEAVY_CLICK);
+    } else {
+      setWaveform(SELECTION, new long[]{2}, new int[]{60});
+      setWaveform(IMPACT_LIGHT, new long[]{4}, new int[]{30});
+      setWaveform(IMPACT_HEAVY, new long[]{20, 10}, new int[]{0, 80});
+    }
+    setWaveform(NOTIFICATION_SUCCESS, new long[]{20, 65, 21}, new int[]{145, 0, 130});
+    setWaveform(NOTIFICATION_WARNING, new long[]{10, 200, 20}, new int[]{160, 0, 100 });
+    setWaveform(NOTIFICATION_ERROR,
+            new long[]{10, 100, 10, 100, 20, 100, 20},
+            new int[]{160, 0, 160, 0, 140, 0, 80 });
+  }
+
+  private void setPredefined(int effect, int effectId) {
+    mEffects[effect] = VibrationEffect.createPredefined(effectId);
+    mDurationsMs[effect] = PREDEFINED_DURATION_MS;
+  }
+
+  private void setWaveform(int effect, long[] timings, int[] amplitudes) {
+    mEffects[effect] = createEffect(timings, amplitudes);
+    mDurationsMs[effect] = sum(timings);
   }
 
-  void notificationSuccess() {
-    if (mHasAmplitudeControl) {
+  private VibrationEffect createEffect(long[] timings, int[] amplitudes) {
+    if (!mHasAmplitudeControl) {
       // check for the SDK version is done in the constructor
-      mVibrator.vibrate(
-              VibrationEffect.createWaveform(
-                      addBreaks(new long[]{20, 65, 21}),
-                      addBreaks(new int[]{145, 0, 130}),
-                      -1
-              )
-      );
+      return null;
     }
+    return VibrationEffect.createWaveform(addBreaks(timings), addBreaks(amplitudes), -1);
   }
 
-  void notificationWarning() {
-    if (mHasAmplitudeControl) {
-      mVibrator.vibrate(
-              VibrationEffect.createWaveform(
-                      addBreaks(new long[]{10, 200, 20}),
-                      addBreaks(new int[]{160, 0, 100 }),
-                      -1));
+  private static long sum(long[] timings) {
+    long total = 0;
+    for (long timing : timings) {
+      total += timing;
     }
+    return total;
   }
 
-  void notificationError() {
-    if (mHasAmplitudeControl) {
-      mVibrator.vibrate(
-              VibrationEffect.createWaveform(
-                      addBreaks(new long[]{10, 100, 10, 100, 20, 100, 20}),
-                      addBreaks(new int[]{160, 0, 160, 0, 140, 0, 80 }),
-                      -1));
+  /**
+   * Compiles a custom waveform once and returns a handle for {@link #playPattern}.
+   * Registering the same name again replaces the waveform and keeps the handle.
+   */
+  synchronized int registerPattern(String name, long[] timings, int[] amplitudes) {
+    if (timings.length == 0 || timings.length != amplitudes.length) {
+      throw new IllegalArgumentException("timings and amplitudes must be non-empty and of equal length");
+    }
+    for (int i = 0; i < timings.length; i++) {
+      if (timings[i] < 0 || amplitudes[i] < 0 || amplitudes[i] > 255) {
+        throw new IllegalArgumentException("Invalid timing or amplitude at index " + i);
+      }
     }
+    VibrationEffect effect = createEffect(timings, amplitudes);
+    Integer handle = mPatternHandles.get(name);
+    if (handle != null) {
+      mPatterns.set(handle, effect);
+      mPatternDurationsMs.set(handle, sum(timings));
+      return handle;
+    }
+    mPatterns.add(effect);
+    mPatternDurationsMs.add(sum(timings));
+    handle = mPatterns.size() - 1;
+    mPatternHandles.put(name, handle);
+    return handle;
+  }
 
+  /** Whether the pattern exists and actually vibrates on this device. */
+  boolean canPlayPattern(int handle) {
+    return handle >= 0 && handle < mPatterns.size() && mPatterns.get(handle) != null;
   }
 
-  void impactHeavy() {
-    if (mHasAmplitudeControl) {
-      mVibrator.vibrate(
-              VibrationEffect.createWaveform(
-                      addBreaks(new long[]{20, 10}),
-                      addBreaks(new int[]{0, 80}),
-                      -1));
-    }
+  long patternDurationMs(int handle) {
+    return mPatternDurationsMs.get(handle);
   }
 
-  void impactLight() {
-    if (mHasAmplitudeControl) {
-      mVibrator.vibrate(
-              VibrationEffect.createWaveform(
-                      addBreaks(new long[]{4}),
-                      addBreaks(new int[]{30}),
-                      -1));
-    }
+  void playPattern(int handle) {
+    vibrate(mPatterns.get(handle));
+  }
+
+  /** False on devices where the effect was compiled to nothing (no amplitude control). */
+  boolean canPlay(int effect) {
+    return mEffects[effect] != null;
+  }
+
+  long durationMs(int effect) {
+    return mDurationsMs[effect];
+  }
+
+  void play(int effect) {
+    vibrate(mEffects[effect]);
+  }
+
+  void cancel() {
+    mVibrator.cancel();
   }
 
-  void selection() {
-    if (mHasAmplitudeControl) {
-      mVibrator.vibrate(
-              VibrationEffect.createWaveform(
-                      addBreaks(new long[]{2}),
-                      addBreaks(new int[]{60}),
-                      -1));
+  private void vibrate(VibrationEffect effect) {
+    if (effect != null) {
+      mVibrator.vibrate(effect);
     }
   }
 }
@@ -0,0 +1,148 @@
+package me.rainbow.NativeModules.Haptics;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Message;
+import android.os.Process;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import me.rainbow.NativeModules.FrameMetrics.FrameMetrics;
+
+/**
+ * Plays haptics on a dedicated thread so bursts from JS never queue behind other native
+ * module calls.
+ *
+ * - Selection ticks closer together than the coalescing window collapse into one, and a
+ *   selection that is still waiting in the queue absorbs the next one.
+ * - While an effect is playing, a lower-priority one is dropped and a higher-priority one
+ *   cancels it and plays right away.
+ */
+class RNHapticsScheduler implements Handler.Callback {
+  static final int PRIORITY_SELECTION = 0;
+  static final int PRIORITY_IMPACT = 1;
+  static final int PRIORITY_NOTIFICATION = 2;
+
+  static final long DEFAULT_COALESCE_WINDOW_MS = 30;
+
+  private static final int MSG_SELECTION = 1;
+  private static final int MSG_EFFECT = 2;
+  private static final int MSG_PATTERN = 3;
+
+  private final RNHapticsPerformer mPerformer;
+  private final HandlerThread mThread;
+  private final Handler mHandler;
+  private volatile long mCoalesceWindowNanos = DEFAULT_COALESCE_WINDOW_MS * 1_000_000;
+
+  final AtomicLong played = new AtomicLong();
+  final AtomicLong coalesced = new AtomicLong();
+  final AtomicLong dropped = new AtomicLong();
+  final AtomicLong preempted = new AtomicLong();
+
+  // Scheduler thread only.
+  private long mLastSelectionNanos = Long.MIN_VALUE / 2;
+  private int mPlayingPriority = -1;
+  private long mPlayingUntilNanos;
+
+  RNHapticsScheduler(RNHapticsPerformer performer) {
+    mPerformer = performer;
+    mThread = new HandlerThread("RNHaptics", Process.THREAD_PRIORITY_URGENT_DISPLAY);
+    mThread.start();
+    mHandler = new Handler(mThread.getLooper(), this);
+  }
+
+  void setCoalesceWindowMs(long windowMs) {
+    mCoalesceWindowNanos = Math.max(0, windowMs) * 1_000_000;
+  }
+
+  void selection() {
+    if (mHandler.hasMessages(MSG_SELECTION)) {
+      coalesced.incrementAndGet();
+      return;
+    }
+    mHandler.sendEmptyMessage(MSG_SELECTION);
+  }
+
+  void play(int effect) {
+    mHandler.obtainMessage(MSG_EFFECT, effect, 0).sendToTarget();
+  }
+
+  void playPattern(int handle) {
+    mHandler.obtainMessage(MSG_PATTERN, handle, 0).sendToTarget();
+  }
+
+  void shutdown() {
+    mThread.quitSafely();
+  }
+
+  @Override
+  public boolean handleMessage(Message msg) {
+    long now = System.nanoTime();
+    switch (msg.what) {
+      case MSG_SELECTION:
+        if (now - mLastSelectionNanos < mCoalesceWindowNanos) {
+          coalesced.incrementAndGet();
+          return true;
+        }
+        if (mPerformer.canPlay(RNHapticsPerformer.SELECTION)
+                && dispatch(now, PRIORITY_SELECTION, mPerformer.durationMs(RNHapticsPerformer.SELECTION))) {
+          mLastSelectionNanos = now;
+          mPerformer.play(RNHapticsPerformer.SELECTION);
+          record(now);
+        }
+        return true;
+      case MSG_EFFECT:
+        int effect = msg.arg1;
+        if (mPerformer.canPlay(effect) && dispatch(now, priorityOf(effect), mPerformer.durationMs(effect))) {
+          mPerformer.play(effect);
+          record(now);
+        }
+        return true;
+      case MSG_PATTERN:
+        int handle = msg.arg1;
+        if (mPerformer.canPlayPattern(handle)
+                && dispatch(now, PRIORITY_IMPACT, mPerformer.patternDurationMs(handle))) {
+          mPerformer.playPattern(handle);
+          record(now);
+        }
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /** Decides whether an effect may play now and, if so, marks it as the playing one. */
+  private boolean dispatch(long now, int priority, long durationMs) {
+    if (now < mPlayingUntilNanos) {
+      if (priority < mPlayingPriority) {
+        dropped.incrementAndGet();
+        return false;
+      }
+      if (priority > mPlayingPriority) {
+        preempted.incrementAndGet();
+        mPerformer.cancel();
+      }
+    }
+    mPlayingPriority = priority;
+    mPlayingUntilNanos = now + durationMs * 1_000_000;
+    return true;
+  }
+
+  private void record(long start) {
+    played.incrementAndGet();
+    FrameMetrics.HAPTICS.record(start, 0);
+  }
+
+  private static int priorityOf(int effect) {
+    switch (effect) {
+      case RNHapticsPerformer.NOTIFICATION_SUCCESS:
+      case RNHapticsPerformer.NOTIFICATION_WARNING:
+      case RNHapticsPerformer.NOTIFICATION_ERROR:
+        return PRIORITY_NOTIFICATION;
+      case RNHapticsPerformer.SELECTION:
+        return PRIORITY_SELECTION;
+      default:
+        return PRIORITY_IMPACT;
+    }
+  }
+}
@@ -1,20 +1,21 @@
-
 package me.rainbow.NativeModules.Haptics;
 
-import android.content.Context;
-import android.os.Vibrator;
-
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableMap;
 
 public class RNRainbowHapticsModule extends ReactContextBaseJavaModule {
   private final RNHapticsPerformer mPerformer;
+  private final RNHapticsScheduler mScheduler;
 
   public RNRainbowHapticsModule(ReactApplicationContext reactContext) {
     super(reactContext);
-    Vibrator vibrator = (Vibrator) reactContext.getSystemService(Context.VIBRATOR_SERVICE);
-    mPerformer = new RNHapticsPerformer(vibrator);
+    mPerformer = RNHapticsPerformer.getInstance(reactContext);
+    mScheduler = new RNHapticsScheduler(mPerformer);
   }
 
   @Override
@@ -26,31 +27,79 @@ public class RNRainbowHapticsModule extends ReactContextBaseJavaModule {
   public void notification(String type) {
     switch (type) {
       case "error":
-        mPerformer.notificationError();
+        mScheduler.play(RNHapticsPerformer.NOTIFICATION_ERROR);
         break;
       case "warning":
-        mPerformer.notificationWarning();
+        mScheduler.play(RNHapticsPerformer.NOTIFICATION_WARNING);
         break;
       default:
-        mPerformer.notificationSuccess();
+        mScheduler.play(RNHapticsPerformer.NOTIFICATION_SUCCESS);
         break;
     }
   }
 
   @ReactMethod
   public void selection() {
-    mPerformer.selection();
+    mScheduler.selection();
   }
 
   @ReactMethod
   public void impact(String type) {
     switch (type) {
       case "light":
-        mPerformer.impactLight();
+        mScheduler.play(RNHapticsPerformer.IMPACT_LIGHT);
         break;
       case "heavy":
-        mPerformer.impactHeavy();
+        mScheduler.play(RNHapticsPerformer.IMPACT_HEAVY);
         break;
     }
   }
+
+  /**
+   * Compiles a custom waveform once. Resolves with a handle for {@link #playPattern}, which
+   * replays it without rebuilding anything.
+   */
+  @ReactMethod
+  public void registerPattern(String name, ReadableArray timings, ReadableArray amplitudes, Promise promise) {
+    long[] timingValues = new long[timings.size()];
+    for (int i = 0; i < timingValues.length; i++) {
+      timingValues[i] = (long) timings.getDouble(i);
+    }
+    int[] amplitudeValues = new int[amplitudes.size()];
+    for (int i = 0; i < amplitudeValues.length; i++) {
+      amplitudeValues[i] = amplitudes.getInt(i);
+    }
+    try {
+      promise.resolve(mPerformer.registerPattern(name, timingValues, amplitudeValues));
+    } catch (IllegalArgumentException e) {
+      promise.reject("E_INVALID_PATTERN", e.getMessage(), e);
+    }
+  }
+
+  @ReactMethod
+  public void playPattern(int handle) {
+    mScheduler.playPattern(handle);
+  }
+
+  /** Selection ticks closer together than this are played once. */
+  @ReactMethod
+  public void setCoalesceWindow(double windowMs) {
+    mScheduler.setCoalesceWindowMs((long) windowMs);
+  }
+
+  @ReactMethod
+  public void getStats(Promise promise) {
+    WritableMap stats = Arguments.createMap();
+    stats.putDouble("played", mScheduler.played.get());
+    stats.putDouble("coalesced", mScheduler.coalesced.get());
+    stats.putDouble("dropped", mScheduler.dropped.get());
+    stats.putDouble("preempted", mScheduler.preempted.get());
+    promise.resolve(stats);
+  }
+
+  @Override
+  public void invalidate() {
+    mScheduler.shutdown();
+    super.invalidate();
+  }
 }
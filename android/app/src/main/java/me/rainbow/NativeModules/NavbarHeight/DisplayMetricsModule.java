@@ -0,0 +1,205 @@
+package me.rainbow.NativeModules.NavbarHeight;
+
+import android.app.Activity;
+import android.content.Context;
+import android.hardware.display.DisplayManager;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Display;
+import android.view.Window;
+import android.view.WindowManager;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.LifecycleEventListener;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.module.annotations.ReactModule;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports the refresh rate of the default display and lets a screen ask for a different one,
+ * e.g. 120 Hz while scrubbing a chart and back to the system default once it's idle.
+ */
+@ReactModule(name = DisplayMetricsModule.NAME)
+public class DisplayMetricsModule extends ReactContextBaseJavaModule
+        implements DisplayManager.DisplayListener, LifecycleEventListener {
+    public static final String NAME = "DisplayMetrics";
+    public static final String EVENT_REFRESH_RATE_CHANGED = "DisplayMetricsRefreshRateChanged";
+
+    private final DisplayManager mDisplayManager;
+    private float mRefreshRate;
+    // UI thread only. The requested rate (0 for none) and the activity whose window carries it,
+    // so the preference follows a new activity and is cleared when the module goes away.
+    private double mPreferredFrameRate;
+    private WeakReference<Activity> mPreferredActivity = new WeakReference<>(null);
+
+    public DisplayMetricsModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+        mDisplayManager = (DisplayManager) reactContext.getSystemService(Context.DISPLAY_SERVICE);
+        mRefreshRate = getDisplay().getRefreshRate();
+        mDisplayManager.registerDisplayListener(this, new Handler(Looper.getMainLooper()));
+        reactContext.addLifecycleEventListener(this);
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return NAME;
+    }
+
+    private Display getDisplay() {
+        return mDisplayManager.getDisplay(Display.DEFAULT_DISPLAY);
+    }
+
+    @Override
+    public Map<String, Object> getConstants() {
+        Display display = getDisplay();
+        Map<String, Object> constants = new HashMap<>();
+        constants.put("refreshRate", (double) display.getRefreshRate());
+        constants.put("supportedRefreshRates", getSupportedRefreshRates(display));
+        return constants;
+    }
+
+    /** Distinct refresh rates available at the current resolution, ascending. */
+    private static List<Double> getSupportedRefreshRates(Display display) {
+        Display.Mode current = display.getMode();
+        List<Double> rates = new ArrayList<>();
+        for (Display.Mode mode : display.getSupportedModes()) {
+            double rate = mode.getRefreshRate();
+            if (isSameResolution(mode, current) && !rates.contains(rate)) {
+                rates.add(rate);
+            }
+        }
+        rates.sort(null);
+        return rates;
+    }
+
+    private static boolean isSameResolution(Display.Mode a, Display.Mode b) {
+        return a.getPhysicalWidth() == b.getPhysicalWidth() && a.getPhysicalHeight() == b.getPhysicalHeight();
+    }
+
+    /**
+     * Asks the window for the display mode closest to {@code framesPerSecond} at the current
+     * resolution. Pass 0 to hand the choice back to the system. This is a preference; the
+     * system may still pick another rate, which then arrives as a change event.
+     */
+    @ReactMethod
+    public void setPreferredFrameRate(final double framesPerSecond) {
+        UiThreadUtil.runOnUiThread(() -> {
+            mPreferredFrameRate = framesPerSecond;
+            applyPreferredFrameRate();
+        });
+    }
+
+    // UI thread only.
+    private void applyPreferredFrameRate() {
+        Activity activity = getCurrentActivity();
+        Activity previous = mPreferredActivity.get();
+        if (previous != null && previous != activity) {
+            setPreferredDisplayMode(previous, 0);
+        }
+        mPreferredActivity = new WeakReference<>(mPreferredFrameRate > 0 ? activity : null);
+        if (activity != null) {
+            setPreferredDisplayMode(activity,
+                    mPreferredFrameRate > 0 ? findClosestMode(getDisplay(), mPreferredFrameRate) : 0);
+        }
+    }
+
+    private static void setPreferredDisplayMode(Activity activity, int modeId) {
+        Window window = activity.getWindow();
+        WindowManager.LayoutParams params = window.getAttributes();
+        if (params.preferredDisplayModeId != modeId) {
+            params.preferredDisplayModeId = modeId;
+            window.setAttributes(params);
+        }
+    }
+
+    private static int findClosestMode(Display display, double framesPerSecond) {
+        Display.Mode current = display.getMode();
+        Display.Mode best = current;
+        for (Display.Mode mode : display.getSupportedModes()) {
+            if (isSameResolution(mode, current)
+                    && Math.abs(mode.getRefreshRate() - framesPerSecond) < Math.abs(best.getRefreshRate() - framesPerSecond)) {
+                best = mode;
+            }
+        }
+        return best.getModeId();
+    }
+
+    @Override
+    public void onDisplayChanged(int displayId) {
+        if (displayId != Display.DEFAULT_DISPLAY) {
+            return;
+        }
+        float refreshRate = getDisplay().getRefreshRate();
+        if (refreshRate == mRefreshRate) {
+            return;
+        }
+        mRefreshRate = refreshRate;
+        ReactApplicationContext context = getReactApplicationContext();
+        if (context.hasActiveReactInstance()) {
+            WritableMap event = Arguments.createMap();
+            event.putDouble("refreshRate", refreshRate);
+            context.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                    .emit(EVENT_REFRESH_RATE_CHANGED, event);
+        }
+    }
+
+    @Override
+    public void onDisplayAdded(int displayId) {}
+
+    @Override
+    public void onDisplayRemoved(int displayId) {}
+
+    @ReactMethod
+    public void addListener(String eventName) {
+        // Required for NativeEventEmitter.
+    }
+
+    @ReactMethod
+    public void removeListeners(double count) {
+        // Required for NativeEventEmitter.
+    }
+
+    @Override
+    public void onHostResume() {
+        // A new activity may have taken over; move the preference to its window.
+        UiThreadUtil.runOnUiThread(() -> {
+            if (mPreferredFrameRate > 0) {
+                applyPreferredFrameRate();
+            }
+        });
+    }
+
+    @Override
+    public void onHostPause() {}
+
+    @Override
+    public void onHostDestroy() {}
+
+    @Override
+    public void invalidate() {
+        mDisplayManager.unregisterDisplayListener(this);
+        getReactApplicationContext().removeLifecycleEventListener(this);
+        UiThreadUtil.runOnUiThread(() -> {
+            mPreferredFrameRate = 0;
+            Activity activity = mPreferredActivity.get();
+            if (activity != null) {
+                setPreferredDisplayMode(activity, 0);
+            }
+            mPreferredActivity.clear();
+        });
+        super.invalidate();
+    }
+}
@@ -16,13 +16,55 @@ import java.lang.NoSuchMethodException;
 import android.view.WindowInsets;
 import android.os.Build;
 import android.content.Context;
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.LifecycleEventListener;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @ReactModule(name = NavbarHeightModule.NAME)
-public class NavbarHeightModule extends ReactContextBaseJavaModule {
+public class NavbarHeightModule extends ReactContextBaseJavaModule implements LifecycleEventListener {
     public static final String NAME = "NavbarHeight";
+    public static final String EVENT_INSETS_CHANGED = "NavbarHeightInsetsChanged";
+
+    // Guarded by this; the scratch copy and the probe are UI thread only.
+    private final SystemInsets mInsets = new SystemInsets();
+    private boolean mInsetsLoaded;
+    private final SystemInsets mScratchInsets = new SystemInsets();
+    private InsetsProbe mProbe;
+
+    /**
+     * An empty child of the decor view that only exists to see inset dispatches, so the decor
+     * view's single OnApplyWindowInsetsListener stays with whichever library set it
+     * (edge-to-edge, keyboard controller, safe area). It runs only when the window dispatches
+     * new insets, not on every layout pass, reports the root insets so whatever a sibling
+     * consumed first is still counted, and passes the insets on untouched.
+     */
+    private final class InsetsProbe extends View {
+        InsetsProbe(Context context) {
+            super(context);
+            setVisibility(View.INVISIBLE);
+            setImportantForAccessibility(View.IMPORTANT_FOR_ACCESSIBILITY_NO);
+        }
+
+        @Override
+        public WindowInsets onApplyWindowInsets(WindowInsets insets) {
+            WindowInsets root = getRootWindowInsets();
+            refreshInsets(root != null ? root : insets);
+            return insets;
+        }
+    }
 
     public NavbarHeightModule(ReactApplicationContext reactContext) {
         super(reactContext);
+        reactContext.addLifecycleEventListener(this);
     }
 
     @Override
@@ -31,6 +73,119 @@ public class NavbarHeightModule extends ReactContextBaseJavaModule {
         return NAME;
     }
 
+    /**
+     * Insets are handed to JS as constants so startup needs no blocking call; they are in
+     * pixels, like {@link #getNavigationBarHeight}. Later changes (rotation, keyboard,
+     * gesture navigation toggles) arrive as {@link #EVENT_INSETS_CHANGED} events.
+     *
+     * Before the first inset dispatch on API 29 and lower, only the navigation bar height is
+     * known: it comes from synchronous display size queries on this thread, and the other
+     * {@code insets} fields are 0 until the first event arrives.
+     */
+    @Override
+    public Map<String, Object> getConstants() {
+        synchronized (this) {
+            loadInsets();
+            return insetsToMap();
+        }
+    }
+
+    // Callers may be on any thread, so this never touches views: it uses what the probe
+    // cached, or asks the window manager before the first dispatch.
+    private void loadInsets() {
+        if (mInsetsLoaded) {
+            return;
+        }
+        mInsetsLoaded = true;
+        if (Build.VERSION.SDK_INT >= 30) {
+            WindowManager windowManager = (WindowManager) getReactApplicationContext().getSystemService(Context.WINDOW_SERVICE);
+            mInsets.read(windowManager.getCurrentWindowMetrics().getWindowInsets());
+        } else {
+            mInsets.setNavigationBarBottom((int) computeNavigationBarHeight());
+        }
+    }
+
+    private Map<String, Object> insetsToMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("navigationBarHeight", (double) mInsets.navigationBarBottom());
+        map.put("insets", mInsets.toMap());
+        return map;
+    }
+
+    @Override
+    public void onHostResume() {
+        UiThreadUtil.runOnUiThread(() -> {
+            Activity activity = getCurrentActivity();
+            if (activity == null) {
+                return;
+            }
+            detachFromDecorView();
+            ViewGroup decorView = (ViewGroup) activity.getWindow().getDecorView();
+            mProbe = new InsetsProbe(activity);
+            decorView.addView(mProbe, new ViewGroup.LayoutParams(0, 0));
+            // Catch up on anything that changed while we weren't listening.
+            WindowInsets insets = decorView.getRootWindowInsets();
+            if (insets != null) {
+                refreshInsets(insets);
+            }
+        });
+    }
+
+    @Override
+    public void onHostPause() {
+        UiThreadUtil.runOnUiThread(this::detachFromDecorView);
+    }
+
+    @Override
+    public void onHostDestroy() {
+        UiThreadUtil.runOnUiThread(this::detachFromDecorView);
+    }
+
+    @Override
+    public void invalidate() {
+        getReactApplicationContext().removeLifecycleEventListener(this);
+        UiThreadUtil.runOnUiThread(this::detachFromDecorView);
+        super.invalidate();
+    }
+
+    private void detachFromDecorView() {
+        if (mProbe != null) {
+            ViewGroup parent = (ViewGroup) mProbe.getParent();
+            if (parent != null) {
+                parent.removeView(mProbe);
+            }
+            mProbe = null;
+        }
+    }
+
+    // UI thread only.
+    private void refreshInsets(WindowInsets insets) {
+        mScratchInsets.read(insets);
+        WritableMap event;
+        synchronized (this) {
+            mInsetsLoaded = true;
+            if (!mInsets.set(mScratchInsets)) {
+                return;
+            }
+            event = Arguments.makeNativeMap(insetsToMap());
+        }
+        ReactApplicationContext context = getReactApplicationContext();
+        if (context.hasActiveReactInstance()) {
+            context.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                    .emit(EVENT_INSETS_CHANGED, event);
+        }
+    }
+
+    @ReactMethod
+    public void addListener(String eventName) {
+        // Required for NativeEventEmitter.
+    }
+
+    @ReactMethod
+    public void removeListeners(double count) {
+        // Required for NativeEventEmitter.
+    }
+
     public Point getAppUsableScreenSize(Context context) {
         WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
         Display display = windowManager.getDefaultDisplay();
@@ -54,8 +209,16 @@ public class NavbarHeightModule extends ReactContextBaseJavaModule {
 
         return size;
     }
+    /** Kept for older callers; prefer the {@code navigationBarHeight} constant. */
     @ReactMethod(isBlockingSynchronousMethod = true)
     public double getNavigationBarHeight() {
+        synchronized (this) {
+            loadInsets();
+            return mInsets.navigationBarBottom();
+        }
+    }
+
+    private double computeNavigationBarHeight() {
         Context context = getReactApplicationContext();
         WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
         if (Build.VERSION.SDK_INT >= 30) {
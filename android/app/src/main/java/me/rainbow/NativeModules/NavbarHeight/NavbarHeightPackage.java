@@ -17,6 +17,7 @@ public class NavbarHeightPackage implements ReactPackage {
     public List<NativeModule> createNativeModules(@NonNull ReactApplicationContext reactContext) {
         List<NativeModule> modules = new ArrayList<>();
         modules.add(new NavbarHeightModule(reactContext));
+        modules.add(new DisplayMetricsModule(reactContext));
         return modules;
     }
 
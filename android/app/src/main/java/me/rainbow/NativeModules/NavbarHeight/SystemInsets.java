@@ -0,0 +1,99 @@
+package me.rainbow.NativeModules.NavbarHeight;
+
+import android.graphics.Insets;
+import android.os.Build;
+import android.view.DisplayCutout;
+import android.view.WindowInsets;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * System bar insets in pixels, flattened into one int array so the change check on every
+ * insets dispatch is a single {@link Arrays#equals} with no allocation.
+ */
+class SystemInsets {
+    static final String[] TYPES = {"navigationBars", "statusBars", "systemGestures", "ime", "displayCutout"};
+    private static final int NAVIGATION_BARS = 0;
+    private static final int STATUS_BARS = 1;
+    private static final int SYSTEM_GESTURES = 2;
+    private static final int IME = 3;
+    private static final int DISPLAY_CUTOUT = 4;
+    // left, top, right, bottom per type
+    private final int[] mValues = new int[TYPES.length * 4];
+
+    int navigationBarBottom() {
+        return mValues[NAVIGATION_BARS * 4 + 3];
+    }
+
+    /** Copies {@code other} into this and returns whether anything changed. */
+    boolean set(SystemInsets other) {
+        if (Arrays.equals(mValues, other.mValues)) {
+            return false;
+        }
+        System.arraycopy(other.mValues, 0, mValues, 0, mValues.length);
+        return true;
+    }
+
+    void read(WindowInsets insets) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+            put(NAVIGATION_BARS, insets.getInsets(WindowInsets.Type.navigationBars()));
+            put(STATUS_BARS, insets.getInsets(WindowInsets.Type.statusBars()));
+            put(SYSTEM_GESTURES, insets.getInsets(WindowInsets.Type.systemGestures()));
+            put(IME, insets.getInsets(WindowInsets.Type.ime()));
+            put(DISPLAY_CUTOUT, insets.getInsets(WindowInsets.Type.displayCutout()));
+            return;
+        }
+        // Stable insets exclude the keyboard: the status bar is on top, the navigation bar on
+        // any other side. Whatever the system window insets add on top of that is the IME.
+        put(STATUS_BARS, 0, insets.getStableInsetTop(), 0, 0);
+        put(NAVIGATION_BARS, insets.getStableInsetLeft(), 0,
+                insets.getStableInsetRight(), insets.getStableInsetBottom());
+        put(IME, 0, 0, 0, Math.max(0, insets.getSystemWindowInsetBottom() - insets.getStableInsetBottom()));
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            put(SYSTEM_GESTURES, insets.getSystemGestureInsets());
+        } else {
+            put(SYSTEM_GESTURES, 0, 0, 0, 0);
+        }
+        DisplayCutout cutout = insets.getDisplayCutout();
+        if (cutout != null) {
+            put(DISPLAY_CUTOUT, cutout.getSafeInsetLeft(), cutout.getSafeInsetTop(),
+                    cutout.getSafeInsetRight(), cutout.getSafeInsetBottom());
+        } else {
+            put(DISPLAY_CUTOUT, 0, 0, 0, 0);
+        }
+    }
+
+    /** Only the navigation bar is known, e.g. before any window is attached. */
+    void setNavigationBarBottom(int bottom) {
+        Arrays.fill(mValues, 0);
+        mValues[NAVIGATION_BARS * 4 + 3] = bottom;
+    }
+
+    private void put(int type, Insets insets) {
+        put(type, insets.left, insets.top, insets.right, insets.bottom);
+    }
+
+    private void put(int type, int left, int top, int right, int bottom) {
+        int offset = type * 4;
+        mValues[offset] = left;
+        mValues[offset + 1] = top;
+        mValues[offset + 2] = right;
+        mValues[offset + 3] = bottom;
+    }
+
+    /** {navigationBars: {left, top, right, bottom}, statusBars: ..., ...} in pixels. */
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        for (int type = 0; type < TYPES.length; type++) {
+            Map<String, Object> sides = new HashMap<>();
+            sides.put("left", mValues[type * 4]);
+            sides.put("top", mValues[type * 4 + 1]);
+            sides.put("right", mValues[type * 4 + 2]);
+            sides.put("bottom", mValues[type * 4 + 3]);
+            map.put(TYPES[type], sides);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,29 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.security.GeneralSecurityException;
+
+/**
+ * Turns an account-level BIP-32 node (e.g. {@code m/44'/60'/0'/0}) into checksummed
+ * addresses for child indexes.
+ */
+final class AccountDeriver {
+    private AccountDeriver() {}
+
+    static String deriveAddress(Bip32.Node account, int index, Keccak256 keccak)
+            throws GeneralSecurityException {
+        Bip32.Node child = Bip32.deriveChild(account, index);
+        byte[] publicKey = Secp256k1.publicKey(child.privateKey, false);
+        child.wipe();
+        return EthAddress.toChecksumAddress(EthAddress.fromPublicKey(publicKey, keccak), keccak);
+    }
+
+    static String[] deriveAddresses(Bip32.Node account, int startIndex, int count)
+            throws GeneralSecurityException {
+        Keccak256 keccak = new Keccak256();
+        String[] addresses = new String[count];
+        for (int i = 0; i < count; i++) {
+            addresses[i] = deriveAddress(account, startIndex + i, keccak);
+        }
+        return addresses;
+    }
+}
@@ -0,0 +1,190 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Gap-limit account discovery over many seeds at once.
+ *
+ * Seed preparation (PBKDF2 + hardened path) runs in parallel for all mnemonics. Then, in
+ * rounds, every seed that is still active gets its next {@code gapLimit} addresses derived,
+ * split across the pool, and checked against the oracle in one batch. A seed stops once
+ * {@code gapLimit} consecutive addresses after its last used one are unused. Used accounts
+ * are reported through the {@link Listener} as soon as their batch is checked.
+ *
+ * Everything is chained on futures: derivation runs on the pool, and no thread waits while
+ * an oracle answer is outstanding. Cancelling the job fails the outstanding answers at once.
+ */
+final class AccountDiscovery {
+    static final int MAX_ACCOUNTS_PER_SEED = 1000;
+
+    interface AccountNodeProvider {
+        /** Returns a node the caller owns and wipes. */
+        Bip32.Node get(String mnemonic) throws Exception;
+    }
+
+    interface Listener {
+        void onAccountFound(int seedIndex, int accountIndex, String address);
+
+        /** {@code accountCount} is the last used index + 1 (0 if nothing was used). */
+        void onSeedCompleted(int seedIndex, int accountCount);
+    }
+
+    private static final class SeedState {
+        final int seedIndex;
+        Bip32.Node account;
+        int nextIndex;
+        int lastUsedIndex = -1;
+        boolean done;
+
+        SeedState(int seedIndex) {
+            this.seedIndex = seedIndex;
+        }
+    }
+
+    private final ExecutorService mPool;
+    private final int mParallelism;
+    private final int mGapLimit;
+    private final AddressUsageOracle mOracle;
+    private final Listener mListener;
+    private final CryptoExecutor.Job mJob;
+    private final Set<CompletableFuture<boolean[]>> mOutstanding = ConcurrentHashMap.newKeySet();
+
+    AccountDiscovery(ExecutorService pool, int parallelism, int gapLimit, AddressUsageOracle oracle,
+                     Listener listener, CryptoExecutor.Job job) {
+        mPool = pool;
+        mParallelism = Math.max(1, parallelism);
+        mGapLimit = gapLimit;
+        mOracle = oracle;
+        mListener = listener;
+        mJob = job;
+    }
+
+    /** Completes with the account count per seed, in input order. */
+    CompletableFuture<int[]> run(List<String> mnemonics, AccountNodeProvider provider) {
+        mJob.setOnCancel(this::cancelOutstanding);
+        List<SeedState> seeds = new ArrayList<>(mnemonics.size());
+        List<CompletableFuture<Void>> prepared = new ArrayList<>(mnemonics.size());
+        for (int i = 0; i < mnemonics.size(); i++) {
+            final String mnemonic = mnemonics.get(i);
+            final SeedState seed = new SeedState(i);
+            seeds.add(seed);
+            prepared.add(CompletableFuture.runAsync(() -> {
+                try {
+                    seed.account = provider.get(mnemonic);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, mPool));
+        }
+        // allOf only completes once every preparation has, so a failure still leaves every
+        // node that was derived in place for the wipe below.
+        return CompletableFuture.allOf(prepared.toArray(new CompletableFuture[0]))
+                .thenCompose(ignored -> nextRound(seeds))
+                .handle((ignored, error) -> {
+                    for (SeedState seed : seeds) {
+                        if (seed.account != null) {
+                            seed.account.wipe();
+                        }
+                    }
+                    if (error != null) {
+                        throw error instanceof CompletionException
+                                ? (CompletionException) error
+                                : new CompletionException(error);
+                    }
+                    int[] counts = new int[seeds.size()];
+                    for (int i = 0; i < counts.length; i++) {
+                        counts[i] = seeds.get(i).lastUsedIndex + 1;
+                    }
+                    return counts;
+                });
+    }
+
+    private CompletableFuture<Void> nextRound(List<SeedState> seeds) {
+        if (mJob.isCancelled()) {
+            return failed(new CancellationException("Discovery was cancelled"));
+        }
+        List<CompletableFuture<Void>> checks = new ArrayList<>(seeds.size());
+        for (SeedState seed : seeds) {
+            if (!seed.done) {
+                checks.add(deriveBatch(seed.account, seed.nextIndex, mGapLimit)
+                        .thenCompose(addresses -> check(seed, addresses)));
+            }
+        }
+        if (checks.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(checks.toArray(new CompletableFuture[0]))
+                .thenCompose(ignored -> nextRound(seeds));
+    }
+
+    private CompletableFuture<Void> check(SeedState seed, String[] addresses) {
+        CompletableFuture<boolean[]> answer = mOracle.areUsed(addresses);
+        mOutstanding.add(answer);
+        if (mJob.isCancelled()) {
+            // A cancel that ran before this answer was tracked would have missed it.
+            cancelOutstanding();
+        }
+        return answer.whenComplete((used, error) -> mOutstanding.remove(answer))
+                .thenAccept(used -> {
+                    for (int i = 0; i < addresses.length; i++) {
+                        if (used[i]) {
+                            seed.lastUsedIndex = seed.nextIndex + i;
+                            mListener.onAccountFound(seed.seedIndex, seed.lastUsedIndex, addresses[i]);
+                        }
+                    }
+                    seed.nextIndex += addresses.length;
+                    if (seed.nextIndex - seed.lastUsedIndex - 1 >= mGapLimit
+                            || seed.nextIndex >= MAX_ACCOUNTS_PER_SEED) {
+                        seed.done = true;
+                        mListener.onSeedCompleted(seed.seedIndex, seed.lastUsedIndex + 1);
+                    }
+                });
+    }
+
+    private void cancelOutstanding() {
+        for (CompletableFuture<boolean[]> answer : mOutstanding) {
+            answer.completeExceptionally(new CancellationException("Discovery was cancelled"));
+        }
+    }
+
+    /** Splits {@code [start, start + count)} into one chunk per worker. */
+    private CompletableFuture<String[]> deriveBatch(Bip32.Node account, int start, int count) {
+        int chunks = Math.min(mParallelism, count);
+        List<CompletableFuture<String[]>> futures = new ArrayList<>(chunks);
+        int chunkStart = start;
+        for (int c = 0; c < chunks; c++) {
+            final int from = chunkStart;
+            final int size = count / chunks + (c < count % chunks ? 1 : 0);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return AccountDeriver.deriveAddresses(account, from, size);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, mPool));
+            chunkStart += size;
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            List<String> addresses = new ArrayList<>(count);
+            for (CompletableFuture<String[]> future : futures) {
+                for (String address : future.join()) {
+                    addresses.add(address);
+                }
+            }
+            return addresses.toArray(new String[0]);
+        });
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
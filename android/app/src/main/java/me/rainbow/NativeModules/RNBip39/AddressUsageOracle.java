@@ -0,0 +1,15 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Answers whether addresses have on-chain history, used by {@link AccountDiscovery} to decide
+ * when a seed has run past its gap limit.
+ */
+interface AddressUsageOracle {
+    /**
+     * Completes with one flag per address, in the same order. Must not block the calling
+     * thread; discovery keeps no thread waiting while an answer is outstanding.
+     */
+    CompletableFuture<boolean[]> areUsed(String[] addresses);
+}
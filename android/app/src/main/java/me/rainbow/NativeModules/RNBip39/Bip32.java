@@ -0,0 +1,134 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * BIP-32 private key derivation. Only the private branch is implemented since every
+ * caller starts from a seed; the public key of a node is computed lazily when a
+ * non-hardened child needs it.
+ */
+final class Bip32 {
+    static final int HARDENED = 0x80000000;
+    private static final byte[] MASTER_SECRET = "Bitcoin seed".getBytes();
+
+    static final class Node {
+        final byte[] privateKey;
+        final byte[] chainCode;
+        private byte[] mCompressedPublicKey;
+
+        Node(byte[] privateKey, byte[] chainCode) {
+            this.privateKey = privateKey;
+            this.chainCode = chainCode;
+        }
+
+        byte[] compressedPublicKey() {
+            if (mCompressedPublicKey == null) {
+                mCompressedPublicKey = Secp256k1.publicKey(privateKey, true);
+            }
+            return mCompressedPublicKey;
+        }
+
+        Node copy() {
+            Node copy = new Node(privateKey.clone(), chainCode.clone());
+            if (mCompressedPublicKey != null) {
+                copy.mCompressedPublicKey = mCompressedPublicKey.clone();
+            }
+            return copy;
+        }
+
+        /** Overwrites the key material; the node must not be used afterwards. */
+        void wipe() {
+            Arrays.fill(privateKey, (byte) 0);
+            Arrays.fill(chainCode, (byte) 0);
+            if (mCompressedPublicKey != null) {
+                Arrays.fill(mCompressedPublicKey, (byte) 0);
+            }
+        }
+    }
+
+    private Bip32() {}
+
+    static Node fromSeed(byte[] seed) throws GeneralSecurityException {
+        byte[] i = hmacSha512(MASTER_SECRET, seed);
+        Node node = new Node(Arrays.copyOfRange(i, 0, 32), Arrays.copyOfRange(i, 32, 64));
+        Arrays.fill(i, (byte) 0);
+        if (!Secp256k1.isValidPrivateKey(new BigInteger(1, node.privateKey))) {
+            throw new GeneralSecurityException("Invalid master key");
+        }
+        return node;
+    }
+
+    static Node derivePath(Node root, String path) throws GeneralSecurityException {
+        int[] indexes = parsePath(path);
+        Node node = root;
+        for (int index : indexes) {
+            Node child = deriveChild(node, index);
+            if (node != root) {
+                node.wipe();
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    static Node deriveChild(Node parent, int index) throws GeneralSecurityException {
+        byte[] data = new byte[37];
+        if ((index & HARDENED) != 0) {
+            System.arraycopy(parent.privateKey, 0, data, 1, 32);
+        } else {
+            System.arraycopy(parent.compressedPublicKey(), 0, data, 0, 33);
+        }
+        data[33] = (byte) (index >>> 24);
+        data[34] = (byte) (index >>> 16);
+        data[35] = (byte) (index >>> 8);
+        data[36] = (byte) index;
+        byte[] i = hmacSha512(parent.chainCode, data);
+        Arrays.fill(data, (byte) 0);
+
+        BigInteger il = new BigInteger(1, Arrays.copyOfRange(i, 0, 32));
+        BigInteger k = il.add(new BigInteger(1, parent.privateKey)).mod(Secp256k1.N);
+        if (il.compareTo(Secp256k1.N) >= 0 || k.signum() == 0) {
+            // Probability below 2^-127; BIP-32 says to skip to the next index.
+            Arrays.fill(i, (byte) 0);
+            return deriveChild(parent, index + 1);
+        }
+        byte[] key = new byte[32];
+        Secp256k1.writeFixed(k, key, 0);
+        Node child = new Node(key, Arrays.copyOfRange(i, 32, 64));
+        Arrays.fill(i, (byte) 0);
+        return child;
+    }
+
+    /** Parses paths like {@code m/44'/60'/0'/0}; both ' and h mark hardened indexes. */
+    static int[] parsePath(String path) {
+        String[] parts = path.trim().split("/");
+        if (parts.length == 0 || !"m".equals(parts[0])) {
+            throw new IllegalArgumentException("Invalid derivation path: " + path);
+        }
+        int[] indexes = new int[parts.length - 1];
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i];
+            boolean hardened = part.endsWith("'") || part.endsWith("h");
+            if (hardened) {
+                part = part.substring(0, part.length() - 1);
+            }
+            long value = Long.parseLong(part);
+            if (value < 0 || value >= 0x80000000L) {
+                throw new IllegalArgumentException("Invalid derivation path: " + path);
+            }
+            indexes[i - 1] = hardened ? ((int) value | HARDENED) : (int) value;
+        }
+        return indexes;
+    }
+
+    static byte[] hmacSha512(byte[] key, byte[] data) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA512");
+        mac.init(new SecretKeySpec(key, "HmacSHA512"));
+        return mac.doFinal(data);
+    }
+}
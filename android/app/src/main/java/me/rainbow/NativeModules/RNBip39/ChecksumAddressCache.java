@@ -0,0 +1,78 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * EIP-55 checksumming with a bounded LRU keyed by the lowercase address, so addresses that
+ * show up on every list render are hashed once. Input handling mirrors ethers' getAddress:
+ * the 0x prefix is optional, and mixed-case input must already carry a valid checksum.
+ */
+final class ChecksumAddressCache {
+    private final Keccak256 mKeccak = new Keccak256();
+    private final byte[] mLowerHex = new byte[40];
+    private final LinkedHashMap<String, String> mCache;
+
+    private long mHits;
+    private long mMisses;
+
+    ChecksumAddressCache(final int maxEntries) {
+        mCache = new LinkedHashMap<String, String>(maxEntries, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** Returns the checksummed address, or null if {@code address} is not a valid address. */
+    synchronized String toChecksumAddress(String address) {
+        if (address == null) {
+            return null;
+        }
+        int start = address.startsWith("0x") || address.startsWith("0X") ? 2 : 0;
+        if (address.length() - start != 40) {
+            return null;
+        }
+        boolean hasUpper = false;
+        boolean hasLower = false;
+        for (int i = 0; i < 40; i++) {
+            char c = address.charAt(start + i);
+            if (c >= 'A' && c <= 'F') {
+                hasUpper = true;
+                c += 32;
+            } else if (c >= 'a' && c <= 'f') {
+                hasLower = true;
+            } else if (c < '0' || c > '9') {
+                return null;
+            }
+            mLowerHex[i] = (byte) c;
+        }
+        String key = new String(mLowerHex, StandardCharsets.US_ASCII);
+        String checksummed = mCache.get(key);
+        if (checksummed == null) {
+            mMisses++;
+            checksummed = EthAddress.toChecksumAddress(mLowerHex, 0, mKeccak);
+            mCache.put(key, checksummed);
+        } else {
+            mHits++;
+        }
+        if (hasUpper && hasLower && !checksummed.regionMatches(2, address, start, 40)) {
+            return null;
+        }
+        return checksummed;
+    }
+
+    synchronized long getHits() {
+        return mHits;
+    }
+
+    synchronized long getMisses() {
+        return mMisses;
+    }
+
+    synchronized int size() {
+        return mCache.size();
+    }
+}
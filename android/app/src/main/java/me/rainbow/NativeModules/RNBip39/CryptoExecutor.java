@@ -0,0 +1,243 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import android.os.Process;
+import android.os.SystemClock;
+
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded thread pool for PBKDF2/BIP-32 work so it never blocks the shared native modules
+ * thread. Jobs are ordered by priority (user-initiated before background pre-derivation),
+ * then FIFO, and can be cancelled from JS by id while queued or between derivation steps.
+ *
+ * Jobs wait in our own priority queue and the pool only runs "take the next job" steps, so
+ * the ordering also holds when the pool hands a step straight to a newly started thread.
+ */
+final class CryptoExecutor {
+    static final int PRIORITY_BACKGROUND = 0;
+    static final int PRIORITY_USER = 10;
+
+    static final String E_QUEUE_FULL = "E_CRYPTO_QUEUE_FULL";
+    static final String E_CANCELLED = "E_CRYPTO_CANCELLED";
+    static final String E_DUPLICATE_JOB = "E_CRYPTO_DUPLICATE_JOB";
+
+    interface Task {
+        /**
+         * Returns a String or WritableMap; maps get the job timings added before resolving.
+         * A task that waits on something outside the pool returns a CompletionStage of either
+         * instead, so the pool thread is released while it waits.
+         */
+        Object run(Job job) throws Exception;
+    }
+
+    static final class Job implements Runnable, Comparable<Job> {
+        private final CryptoExecutor mOwner;
+        private final String mId;
+        private final int mPriority;
+        private final long mSequence;
+        private final long mEnqueuedAt;
+        private final Promise mPromise;
+        private final Task mTask;
+        private volatile boolean mCancelled;
+        private volatile Runnable mOnCancel;
+
+        private Job(CryptoExecutor owner, String id, int priority, long sequence, Promise promise, Task task) {
+            mOwner = owner;
+            mId = id;
+            mPriority = priority;
+            mSequence = sequence;
+            mEnqueuedAt = SystemClock.elapsedRealtime();
+            mPromise = promise;
+            mTask = task;
+        }
+
+        boolean isCancelled() {
+            return mCancelled;
+        }
+
+        void throwIfCancelled() {
+            if (mCancelled) {
+                throw new CancellationException("Job " + mId + " was cancelled");
+            }
+        }
+
+        /** Runs {@code onCancel} when the job is cancelled while its task is in flight. */
+        void setOnCancel(Runnable onCancel) {
+            mOnCancel = onCancel;
+            if (mCancelled) {
+                onCancel.run();
+            }
+        }
+
+        @Override
+        public void run() {
+            long startedAt = SystemClock.elapsedRealtime();
+            // Pool threads are shared by both priorities, so set it per job.
+            Process.setThreadPriority(mPriority == PRIORITY_BACKGROUND
+                    ? Process.THREAD_PRIORITY_BACKGROUND
+                    : Process.THREAD_PRIORITY_DEFAULT);
+            Object result;
+            try {
+                throwIfCancelled();
+                result = mTask.run(this);
+            } catch (Exception e) {
+                settle(startedAt, null, e);
+                return;
+            }
+            if (result instanceof CompletionStage) {
+                ((CompletionStage<?>) result).whenComplete((value, error) -> settle(startedAt, value, error));
+            } else {
+                settle(startedAt, result, null);
+            }
+        }
+
+        private void settle(long startedAt, Object result, Throwable error) {
+            try {
+                if (error instanceof CompletionException && error.getCause() != null) {
+                    error = error.getCause();
+                }
+                if (error == null && mCancelled) {
+                    error = new CancellationException("Job " + mId + " was cancelled");
+                }
+                if (error instanceof CancellationException) {
+                    mPromise.reject(E_CANCELLED, error.getMessage());
+                } else if (error != null) {
+                    mPromise.reject(error);
+                } else {
+                    if (result instanceof WritableMap) {
+                        WritableMap map = (WritableMap) result;
+                        map.putDouble("queueWaitMs", startedAt - mEnqueuedAt);
+                        map.putDouble("executionMs", SystemClock.elapsedRealtime() - startedAt);
+                    }
+                    mPromise.resolve(result);
+                }
+            } finally {
+                mOwner.finish(this);
+            }
+        }
+
+        @Override
+        public int compareTo(Job other) {
+            if (mPriority != other.mPriority) {
+                return mPriority > other.mPriority ? -1 : 1;
+            }
+            return Long.compare(mSequence, other.mSequence);
+        }
+    }
+
+    private final ThreadPoolExecutor mExecutor;
+    private final int mMaxQueueDepth;
+    // Guarded by itself; the depth check, id check and enqueue happen under one lock.
+    private final PriorityQueue<Job> mQueue = new PriorityQueue<>();
+    private final Map<String, Job> mJobs = new ConcurrentHashMap<>();
+    private final AtomicLong mSequence = new AtomicLong();
+    private final AtomicInteger mAnonymousIds = new AtomicInteger();
+
+    CryptoExecutor(int threads, int maxQueueDepth) {
+        mMaxQueueDepth = maxQueueDepth;
+        AtomicInteger threadCount = new AtomicInteger();
+        mExecutor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                30,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "RNBip39-crypto-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    static CryptoExecutor createDefault() {
+        // Leave one core for the UI and JS threads, and never go wide enough to thrash.
+        int cores = Runtime.getRuntime().availableProcessors();
+        return new CryptoExecutor(Math.max(1, Math.min(cores - 1, 3)), 32);
+    }
+
+    static int parsePriority(String priority) {
+        return "background".equals(priority) ? PRIORITY_BACKGROUND : PRIORITY_USER;
+    }
+
+    /**
+     * Queues {@code task}. The promise is rejected right away if the queue is full or a queued
+     * or running job already has this id.
+     */
+    void submit(String jobId, int priority, Promise promise, Task task) {
+        String id = jobId != null ? jobId : "anonymous-" + mAnonymousIds.incrementAndGet();
+        synchronized (mQueue) {
+            if (mQueue.size() >= mMaxQueueDepth) {
+                promise.reject(E_QUEUE_FULL, "Crypto queue is full (" + mMaxQueueDepth + " jobs)");
+                return;
+            }
+            Job job = new Job(this, id, priority, mSequence.incrementAndGet(), promise, task);
+            if (mJobs.putIfAbsent(id, job) != null) {
+                promise.reject(E_DUPLICATE_JOB, "A job with id " + id + " is already queued or running");
+                return;
+            }
+            mQueue.add(job);
+        }
+        mExecutor.execute(this::runNext);
+    }
+
+    // One step per submitted job; a step finds nothing when its job was cancelled while queued.
+    private void runNext() {
+        Job job;
+        synchronized (mQueue) {
+            job = mQueue.poll();
+        }
+        if (job != null) {
+            job.run();
+        }
+    }
+
+    /** Returns false if no queued or running job has this id. */
+    boolean cancel(String jobId) {
+        Job job = mJobs.get(jobId);
+        if (job == null) {
+            return false;
+        }
+        cancel(job);
+        return true;
+    }
+
+    private void cancel(Job job) {
+        job.mCancelled = true;
+        boolean removed;
+        synchronized (mQueue) {
+            removed = mQueue.remove(job);
+        }
+        if (removed) {
+            // Never started, so run() won't settle the promise for us.
+            job.mPromise.reject(E_CANCELLED, "Job " + job.mId + " was cancelled");
+            finish(job);
+        } else if (job.mOnCancel != null) {
+            job.mOnCancel.run();
+        }
+    }
+
+    private void finish(Job job) {
+        mJobs.remove(job.mId, job);
+    }
+
+    void shutdown() {
+        for (Job job : mJobs.values()) {
+            cancel(job);
+        }
+        mExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,108 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Type 2 (EIP-1559) transaction serialization and signing. Fields follow the ethers
+ * TransactionRequest names; {@code gas} is accepted as an alias for {@code gasLimit}.
+ */
+final class Eip1559Transaction {
+    static final int TYPE = 2;
+
+    static final class Signed {
+        final String serialized;
+        final String hash;
+        final Secp256k1.Signature signature;
+
+        Signed(String serialized, String hash, Secp256k1.Signature signature) {
+            this.serialized = serialized;
+            this.hash = hash;
+            this.signature = signature;
+        }
+    }
+
+    private Eip1559Transaction() {}
+
+    static Signed sign(Map<String, Object> tx, byte[] privateKey, Keccak256 keccak)
+            throws GeneralSecurityException {
+        Object type = tx.get("type");
+        if (type != null && Hex.toQuantity(type).intValue() != TYPE) {
+            throw new IllegalArgumentException("Only EIP-1559 (type 2) transactions are supported");
+        }
+        List<Object> fields = fields(tx);
+        byte[] signingHash = keccak.digest(typed(Rlp.encode(fields)));
+        Secp256k1.Signature signature = Secp256k1.sign(signingHash, privateKey);
+
+        fields.add(Rlp.encodeInteger(BigInteger.valueOf(signature.recoveryId)));
+        fields.add(Rlp.encodeInteger(new BigInteger(1, signature.r)));
+        fields.add(Rlp.encodeInteger(new BigInteger(1, signature.s)));
+        byte[] serialized = typed(Rlp.encode(fields));
+        return new Signed(Hex.encode(serialized), Hex.encode(keccak.digest(serialized)), signature);
+    }
+
+    /** [chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gasLimit, to, value, data, accessList] */
+    @SuppressWarnings("unchecked")
+    private static List<Object> fields(Map<String, Object> tx) {
+        if (tx.get("chainId") == null) {
+            throw new IllegalArgumentException("chainId is required");
+        }
+        List<Object> fields = new ArrayList<>(12);
+        fields.add(quantity(tx, "chainId"));
+        fields.add(quantity(tx, "nonce"));
+        fields.add(quantity(tx, "maxPriorityFeePerGas"));
+        fields.add(quantity(tx, "maxFeePerGas"));
+        fields.add(tx.get("gasLimit") != null ? quantity(tx, "gasLimit") : quantity(tx, "gas"));
+        Object to = tx.get("to");
+        fields.add(to == null ? new byte[0] : address((String) to));
+        fields.add(quantity(tx, "value"));
+        Object data = tx.get("data");
+        fields.add(data == null ? new byte[0] : Hex.decode((String) data));
+
+        List<Object> accessList = new ArrayList<>();
+        Object entries = tx.get("accessList");
+        if (entries != null) {
+            for (Object entry : (List<Object>) entries) {
+                Map<String, Object> item = (Map<String, Object>) entry;
+                List<Object> storageKeys = new ArrayList<>();
+                Object keys = item.get("storageKeys");
+                if (keys != null) {
+                    for (Object key : (List<Object>) keys) {
+                        byte[] slot = Hex.decode((String) key);
+                        if (slot.length != 32) {
+                            throw new IllegalArgumentException("Invalid storage key: " + key);
+                        }
+                        storageKeys.add(slot);
+                    }
+                }
+                accessList.add(Arrays.<Object>asList(address((String) item.get("address")), storageKeys));
+            }
+        }
+        fields.add(accessList);
+        return fields;
+    }
+
+    private static byte[] quantity(Map<String, Object> tx, String key) {
+        return Rlp.encodeInteger(Hex.toQuantity(tx.get(key)));
+    }
+
+    private static byte[] address(String value) {
+        byte[] address = Hex.decode(value);
+        if (address.length != 20) {
+            throw new IllegalArgumentException("Invalid address: " + value);
+        }
+        return address;
+    }
+
+    private static byte[] typed(byte[] rlp) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rlp.length + 1);
+        out.write(TYPE);
+        out.write(rlp, 0, rlp.length);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,46 @@
+package me.rainbow.NativeModules.RNBip39;
+
+/**
+ * Ethereum address helpers: public key to address and EIP-55 mixed-case checksumming.
+ */
+final class EthAddress {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private EthAddress() {}
+
+    /** Returns the 20-byte address for a 65-byte uncompressed public key. */
+    static byte[] fromPublicKey(byte[] uncompressed, Keccak256 keccak) {
+        byte[] hash = new byte[32];
+        keccak.digest(uncompressed, 1, 64, hash, 0);
+        byte[] address = new byte[20];
+        System.arraycopy(hash, 12, address, 0, 20);
+        return address;
+    }
+
+    static String toChecksumAddress(byte[] address, Keccak256 keccak) {
+        byte[] lower = new byte[40];
+        for (int i = 0; i < 20; i++) {
+            lower[i * 2] = (byte) HEX[(address[i] >> 4) & 0xf];
+            lower[i * 2 + 1] = (byte) HEX[address[i] & 0xf];
+        }
+        return toChecksumAddress(lower, 0, keccak);
+    }
+
+    /**
+     * Checksums 40 lowercase ASCII hex characters starting at {@code offset}. The caller must
+     * have validated the input.
+     */
+    static String toChecksumAddress(byte[] lowerHex, int offset, Keccak256 keccak) {
+        byte[] hash = new byte[32];
+        keccak.digest(lowerHex, offset, 40, hash, 0);
+        char[] out = new char[42];
+        out[0] = '0';
+        out[1] = 'x';
+        for (int i = 0; i < 40; i++) {
+            char c = (char) lowerHex[offset + i];
+            int nibble = (hash[i >> 1] >> ((i & 1) == 0 ? 4 : 0)) & 0xf;
+            out[i + 2] = c >= 'a' && nibble >= 8 ? (char) (c - 32) : c;
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,62 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.math.BigInteger;
+
+/** Hex and quantity parsing shared by the signing code. */
+final class Hex {
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    private Hex() {}
+
+    static String encode(byte[] bytes) {
+        char[] out = new char[2 + bytes.length * 2];
+        out[0] = '0';
+        out[1] = 'x';
+        for (int i = 0; i < bytes.length; i++) {
+            out[2 + i * 2] = DIGITS[(bytes[i] >> 4) & 0xf];
+            out[3 + i * 2] = DIGITS[bytes[i] & 0xf];
+        }
+        return new String(out);
+    }
+
+    /** Decodes hex with an optional 0x prefix; throws on odd length or bad digits. */
+    static byte[] decode(String hex) {
+        int start = hex.startsWith("0x") || hex.startsWith("0X") ? 2 : 0;
+        int length = hex.length() - start;
+        if (length % 2 != 0) {
+            throw new IllegalArgumentException("Odd-length hex string");
+        }
+        byte[] out = new byte[length / 2];
+        for (int i = 0; i < out.length; i++) {
+            int hi = Character.digit(hex.charAt(start + i * 2), 16);
+            int lo = Character.digit(hex.charAt(start + i * 2 + 1), 16);
+            if (hi < 0 || lo < 0) {
+                throw new IllegalArgumentException("Invalid hex string");
+            }
+            out[i] = (byte) ((hi << 4) | lo);
+        }
+        return out;
+    }
+
+    /**
+     * Parses a quantity given as a 0x-prefixed hex string, a decimal string or a JS number
+     * (Double). Numbers must be integral and within the range a double represents exactly.
+     */
+    static BigInteger toQuantity(Object value) {
+        if (value == null) {
+            return BigInteger.ZERO;
+        }
+        if (value instanceof Number) {
+            double d = ((Number) value).doubleValue();
+            if (d != Math.floor(d) || Math.abs(d) > 9007199254740991d) {
+                throw new IllegalArgumentException("Unsafe numeric quantity: " + d);
+            }
+            return BigInteger.valueOf((long) d);
+        }
+        String s = value.toString();
+        if (s.startsWith("0x") || s.startsWith("0X")) {
+            return s.length() == 2 ? BigInteger.ZERO : new BigInteger(s.substring(2), 16);
+        }
+        return new BigInteger(s);
+    }
+}
@@ -0,0 +1,29 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Oracle backed by a fixed set of addresses known to be used, e.g. a list JS already fetched,
+ * or a stand-in when exercising discovery without network access.
+ */
+final class InMemoryAddressUsageOracle implements AddressUsageOracle {
+    private final Set<String> mUsed = new HashSet<>();
+
+    InMemoryAddressUsageOracle(Iterable<String> usedAddresses) {
+        for (String address : usedAddresses) {
+            mUsed.add(address.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    @Override
+    public CompletableFuture<boolean[]> areUsed(String[] addresses) {
+        boolean[] used = new boolean[addresses.length];
+        for (int i = 0; i < addresses.length; i++) {
+            used[i] = mUsed.contains(addresses[i].toLowerCase(Locale.ROOT));
+        }
+        return CompletableFuture.completedFuture(used);
+    }
+}
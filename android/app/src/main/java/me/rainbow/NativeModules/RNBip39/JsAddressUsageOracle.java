@@ -0,0 +1,101 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Oracle that asks JS: every batch is emitted as an {@link #EVENT} with a request id, and the
+ * returned future completes when JS answers through {@code RNBip39.resolveAddressUsage}. No
+ * thread waits for the answer; a request that gets none fails after {@link #TIMEOUT_SECONDS}.
+ */
+final class JsAddressUsageOracle implements AddressUsageOracle {
+    static final String EVENT = "RNBip39AddressUsageRequest";
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private static final AtomicInteger sRequestIds = new AtomicInteger();
+    private static final Map<Integer, CompletableFuture<boolean[]>> sPending = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService sTimeouts = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "RNBip39-usage-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ReactApplicationContext mContext;
+    private final String mDiscoveryId;
+
+    JsAddressUsageOracle(ReactApplicationContext context, String discoveryId) {
+        mContext = context;
+        mDiscoveryId = discoveryId;
+    }
+
+    @Override
+    public CompletableFuture<boolean[]> areUsed(String[] addresses) {
+        int requestId = sRequestIds.incrementAndGet();
+        CompletableFuture<boolean[]> answer = new CompletableFuture<>();
+        sPending.put(requestId, answer);
+        ScheduledFuture<?> timeout = sTimeouts.schedule(
+                () -> answer.completeExceptionally(new TimeoutException("No address usage answer from JS")),
+                TIMEOUT_SECONDS,
+                TimeUnit.SECONDS);
+        answer.whenComplete((used, error) -> {
+            sPending.remove(requestId);
+            timeout.cancel(false);
+        });
+
+        WritableArray list = Arguments.createArray();
+        for (String address : addresses) {
+            list.pushString(address);
+        }
+        WritableMap event = Arguments.createMap();
+        event.putString("discoveryId", mDiscoveryId);
+        event.putInt("requestId", requestId);
+        event.putArray("addresses", list);
+        mContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class).emit(EVENT, event);
+
+        CompletableFuture<boolean[]> checked = answer.thenApply(used -> {
+            if (used.length != addresses.length) {
+                throw new IllegalStateException("Expected " + addresses.length + " usage flags, got " + used.length);
+            }
+            return used;
+        });
+        // Failing the returned future (e.g. on cancel) drops the pending request and its timeout.
+        checked.whenComplete((used, error) -> {
+            if (error != null) {
+                answer.completeExceptionally(error);
+            }
+        });
+        return checked;
+    }
+
+    /** Returns false if the request already timed out or never existed. */
+    static boolean resolve(int requestId, ReadableArray usedFlags) {
+        CompletableFuture<boolean[]> answer = sPending.get(requestId);
+        if (answer == null) {
+            return false;
+        }
+        boolean[] used = new boolean[usedFlags.size()];
+        for (int i = 0; i < used.length; i++) {
+            used[i] = usedFlags.getBoolean(i);
+        }
+        return answer.complete(used);
+    }
+
+    static boolean reject(int requestId, String message) {
+        CompletableFuture<boolean[]> answer = sPending.get(requestId);
+        return answer != null && answer.completeExceptionally(new IllegalStateException(message));
+    }
+}
@@ -0,0 +1,109 @@
+package me.rainbow.NativeModules.RNBip39;
+
+/**
+ * Keccak-256 as used by Ethereum (original Keccak padding, not NIST SHA3-256).
+ * An instance owns its permutation state and can be reused for any number of digests,
+ * but it is not thread safe.
+ */
+final class Keccak256 {
+    private static final int RATE = 136;
+
+    private static final long[] ROUND_CONSTANTS = {
+            0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL, 0x8000000080008000L,
+            0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+            0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL,
+            0x000000008000808bL, 0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L,
+            0x8000000000008002L, 0x8000000000000080L, 0x000000000000800aL, 0x800000008000000aL,
+            0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L,
+    };
+
+    private static final int[] ROTATIONS = {
+            0, 1, 62, 28, 27,
+            36, 44, 6, 55, 20,
+            3, 10, 43, 25, 39,
+            41, 45, 15, 21, 8,
+            18, 2, 61, 56, 14,
+    };
+
+    private final long[] mState = new long[25];
+    private final long[] mB = new long[25];
+    private final long[] mC = new long[5];
+
+    static byte[] hash(byte[] input) {
+        byte[] out = new byte[32];
+        new Keccak256().digest(input, 0, input.length, out, 0);
+        return out;
+    }
+
+    byte[] digest(byte[] input) {
+        byte[] out = new byte[32];
+        digest(input, 0, input.length, out, 0);
+        return out;
+    }
+
+    void digest(byte[] input, int offset, int length, byte[] out, int outOffset) {
+        long[] s = mState;
+        for (int i = 0; i < 25; i++) {
+            s[i] = 0;
+        }
+        int end = offset + length;
+        while (end - offset >= RATE) {
+            for (int i = 0; i < RATE / 8; i++) {
+                s[i] ^= readLong(input, offset + i * 8);
+            }
+            permute();
+            offset += RATE;
+        }
+        // Absorb the remaining bytes one by one, then apply the 0x01 ... 0x80 padding.
+        int remaining = end - offset;
+        for (int i = 0; i < remaining; i++) {
+            s[i >> 3] ^= (input[offset + i] & 0xffL) << ((i & 7) << 3);
+        }
+        s[remaining >> 3] ^= 0x01L << ((remaining & 7) << 3);
+        s[(RATE - 1) >> 3] ^= 0x80L << (((RATE - 1) & 7) << 3);
+        permute();
+        for (int i = 0; i < 32; i++) {
+            out[outOffset + i] = (byte) (s[i >> 3] >>> ((i & 7) << 3));
+        }
+    }
+
+    private static long readLong(byte[] in, int off) {
+        return (in[off] & 0xffL)
+                | (in[off + 1] & 0xffL) << 8
+                | (in[off + 2] & 0xffL) << 16
+                | (in[off + 3] & 0xffL) << 24
+                | (in[off + 4] & 0xffL) << 32
+                | (in[off + 5] & 0xffL) << 40
+                | (in[off + 6] & 0xffL) << 48
+                | (in[off + 7] & 0xffL) << 56;
+    }
+
+    private void permute() {
+        long[] a = mState;
+        long[] b = mB;
+        long[] c = mC;
+        for (int round = 0; round < 24; round++) {
+            for (int x = 0; x < 5; x++) {
+                c[x] = a[x] ^ a[x + 5] ^ a[x + 10] ^ a[x + 15] ^ a[x + 20];
+            }
+            for (int x = 0; x < 5; x++) {
+                long d = c[(x + 4) % 5] ^ Long.rotateLeft(c[(x + 1) % 5], 1);
+                for (int y = 0; y < 25; y += 5) {
+                    a[y + x] ^= d;
+                }
+            }
+            for (int x = 0; x < 5; x++) {
+                for (int y = 0; y < 5; y++) {
+                    int index = x + 5 * y;
+                    b[y + 5 * ((2 * x + 3 * y) % 5)] = Long.rotateLeft(a[index], ROTATIONS[index]);
+                }
+            }
+            for (int y = 0; y < 25; y += 5) {
+                for (int x = 0; x < 5; x++) {
+                    a[y + x] = b[y + x] ^ (~b[y + (x + 1) % 5] & b[y + (x + 2) % 5]);
+                }
+            }
+            a[0] ^= ROUND_CONSTANTS[round];
+        }
+    }
+}
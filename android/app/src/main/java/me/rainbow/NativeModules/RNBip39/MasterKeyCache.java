@@ -0,0 +1,153 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import android.os.SystemClock;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of derived account-level BIP-32 nodes, so deriving index 2..N of a seed
+ * that was just used skips PBKDF2 and the hardened path derivation.
+ *
+ * Entries are keyed by SHA-256(salt || mnemonic || passphrase || path) with a per-process
+ * random salt, so the mnemonic itself is never held as a map key. Every entry expires after a
+ * fixed TTL, the map is capped by size, and key material is zeroed whenever an entry leaves
+ * the cache. Callers always receive a copy they own and must wipe.
+ */
+final class MasterKeyCache {
+    static final long DEFAULT_TTL_MS = 60_000;
+    static final int DEFAULT_MAX_ENTRIES = 4;
+
+    private static final class Entry {
+        final Bip32.Node node;
+        final long expiresAt;
+
+        Entry(Bip32.Node node, long expiresAt) {
+            this.node = node;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final long mTtlMs;
+    private final int mMaxEntries;
+    private final byte[] mSalt = new byte[32];
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<>(8, 0.75f, true);
+    private final ScheduledExecutorService mPurger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "RNBip39-key-cache");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+    private final AtomicLong mEvictions = new AtomicLong();
+
+    MasterKeyCache(long ttlMs, int maxEntries) {
+        mTtlMs = ttlMs;
+        mMaxEntries = maxEntries;
+        new SecureRandom().nextBytes(mSalt);
+    }
+
+    String key(String mnemonic, String passphrase, String path) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(mSalt);
+        digest.update(mnemonic.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(passphrase.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(path.getBytes(StandardCharsets.UTF_8));
+        byte[] hash = digest.digest();
+        StringBuilder sb = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    /** Returns a private copy of the cached node, or null on a miss. */
+    synchronized Bip32.Node get(String key) {
+        purgeExpired();
+        Entry entry = mEntries.get(key);
+        if (entry == null) {
+            mMisses.incrementAndGet();
+            return null;
+        }
+        mHits.incrementAndGet();
+        return entry.node.copy();
+    }
+
+    /** Stores a copy of {@code node}; the caller keeps ownership of the original. */
+    synchronized void put(String key, Bip32.Node node) {
+        Entry previous = mEntries.put(key, new Entry(node.copy(), SystemClock.elapsedRealtime() + mTtlMs));
+        if (previous != null) {
+            previous.node.wipe();
+        }
+        Iterator<Map.Entry<String, Entry>> it = mEntries.entrySet().iterator();
+        while (mEntries.size() > mMaxEntries && it.hasNext()) {
+            evict(it);
+        }
+        mPurger.schedule(this::purgeExpiredLocked, mTtlMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** Zeroes and drops every entry, e.g. when the app goes to the background. */
+    synchronized void clear() {
+        Iterator<Map.Entry<String, Entry>> it = mEntries.entrySet().iterator();
+        while (it.hasNext()) {
+            evict(it);
+        }
+    }
+
+    long getHits() {
+        return mHits.get();
+    }
+
+    long getMisses() {
+        return mMisses.get();
+    }
+
+    long getEvictions() {
+        return mEvictions.get();
+    }
+
+    synchronized int size() {
+        return mEntries.size();
+    }
+
+    void shutdown() {
+        clear();
+        mPurger.shutdownNow();
+    }
+
+    private synchronized void purgeExpiredLocked() {
+        purgeExpired();
+    }
+
+    private void purgeExpired() {
+        long now = SystemClock.elapsedRealtime();
+        Iterator<Map.Entry<String, Entry>> it = mEntries.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next().getValue();
+            if (entry.expiresAt <= now) {
+                it.remove();
+                entry.node.wipe();
+                mEvictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void evict(Iterator<Map.Entry<String, Entry>> it) {
+        Entry entry = it.next().getValue();
+        it.remove();
+        entry.node.wipe();
+        mEvictions.incrementAndGet();
+    }
+}
@@ -0,0 +1,153 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import io.github.novacrypto.bip39.wordlists.English;
+
+/**
+ * BIP-39 mnemonic validation for the import screen.
+ *
+ * The English wordlist is copied once into a sorted array, so word lookup and prefix
+ * suggestions are binary searches. A {@link Session} remembers the word indexes of the
+ * previous input and only looks up words that changed, so appending a word costs one
+ * lookup plus the checksum.
+ */
+final class MnemonicValidator {
+    static final int WORD_COUNT = 2048;
+    private static final String[] WORDS = new String[WORD_COUNT];
+
+    static {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            WORDS[i] = English.INSTANCE.getWord(i);
+        }
+    }
+
+    static final class Result {
+        int wordCount;
+        boolean valid;
+        /** Null until the phrase has a valid length and every word is known. */
+        Boolean checksumValid;
+        final List<Integer> invalidWordIndexes = new ArrayList<>();
+        final List<String> suggestions = new ArrayList<>();
+    }
+
+    private MnemonicValidator() {}
+
+    /** Returns the wordlist index of {@code word}, or -1. */
+    static int indexOf(String word) {
+        int index = Arrays.binarySearch(WORDS, word);
+        return index >= 0 ? index : -1;
+    }
+
+    static List<String> suggest(String prefix, int limit) {
+        List<String> matches = new ArrayList<>(limit);
+        if (prefix.isEmpty()) {
+            return matches;
+        }
+        int index = Arrays.binarySearch(WORDS, prefix);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        for (int i = index; i < WORD_COUNT && matches.size() < limit && WORDS[i].startsWith(prefix); i++) {
+            matches.add(WORDS[i]);
+        }
+        return matches;
+    }
+
+    static boolean isValidLength(int wordCount) {
+        return wordCount >= 12 && wordCount <= 24 && wordCount % 3 == 0;
+    }
+
+    /** Verifies the trailing checksum bits of a complete phrase given as wordlist indexes. */
+    static boolean verifyChecksum(int[] indexes, int wordCount) {
+        int totalBits = wordCount * 11;
+        int checksumBits = totalBits / 33;
+        int entropyBits = totalBits - checksumBits;
+        byte[] bits = new byte[(totalBits + 7) / 8];
+        for (int w = 0; w < wordCount; w++) {
+            for (int b = 0; b < 11; b++) {
+                if ((indexes[w] & (1 << (10 - b))) != 0) {
+                    int bit = w * 11 + b;
+                    bits[bit >> 3] |= (byte) (0x80 >>> (bit & 7));
+                }
+            }
+        }
+        byte[] entropy = Arrays.copyOf(bits, entropyBits / 8);
+        byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(entropy);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            Arrays.fill(bits, (byte) 0);
+        }
+        // At most 8 checksum bits, all of them in the last byte of the packed phrase.
+        int expected = (hash[0] & 0xff) >>> (8 - checksumBits);
+        int actual = indexes[wordCount - 1] & ((1 << checksumBits) - 1);
+        Arrays.fill(entropy, (byte) 0);
+        return expected == actual;
+    }
+
+    static final class Session {
+        private String[] mWords = new String[0];
+        private int[] mIndexes = new int[24];
+
+        /**
+         * Validates {@code phrase}. Unless the input ends with whitespace, the last word is
+         * treated as still being typed: it gets suggestions and is only marked invalid when
+         * no word starts with it.
+         */
+        Result update(String phrase, int suggestionLimit) {
+            String normalized = phrase.toLowerCase(Locale.ROOT);
+            String trimmed = normalized.trim();
+            String[] words = trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+            boolean typingLastWord = words.length > 0
+                    && !Character.isWhitespace(normalized.charAt(normalized.length() - 1));
+
+            if (words.length > mIndexes.length) {
+                mIndexes = Arrays.copyOf(mIndexes, words.length);
+            }
+            int unchanged = 0;
+            while (unchanged < words.length && unchanged < mWords.length
+                    && words[unchanged].equals(mWords[unchanged])) {
+                unchanged++;
+            }
+            for (int i = unchanged; i < words.length; i++) {
+                mIndexes[i] = indexOf(words[i]);
+            }
+            mWords = words;
+
+            Result result = new Result();
+            result.wordCount = words.length;
+            boolean allKnown = true;
+            for (int i = 0; i < words.length; i++) {
+                if (mIndexes[i] >= 0) {
+                    continue;
+                }
+                allKnown = false;
+                boolean isPartial = typingLastWord && i == words.length - 1;
+                if (!isPartial || suggest(words[i], 1).isEmpty()) {
+                    result.invalidWordIndexes.add(i);
+                }
+            }
+            if (typingLastWord) {
+                result.suggestions.addAll(suggest(words[words.length - 1], suggestionLimit));
+            }
+            if (allKnown && isValidLength(words.length)) {
+                result.checksumValid = verifyChecksum(mIndexes, words.length);
+                result.valid = result.checksumValid;
+            }
+            return result;
+        }
+
+        void clear() {
+            mWords = new String[0];
+            Arrays.fill(mIndexes, 0);
+        }
+    }
+}
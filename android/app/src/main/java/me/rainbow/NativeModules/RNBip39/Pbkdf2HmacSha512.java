@@ -0,0 +1,267 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * PBKDF2-HMAC-SHA512 tuned for BIP-39 seed generation.
+ *
+ * The HMAC inner and outer pad states are compressed once per password, and every iteration
+ * after the first hashes exactly one 64-byte block, so the 2048 rounds run on fixed
+ * {@code long[]} buffers owned by the instance without allocating. Instances are not thread
+ * safe; use {@link #get()} for a per-thread engine.
+ */
+final class Pbkdf2HmacSha512 {
+    static final int BIP39_ITERATIONS = 2048;
+    static final int SEED_LENGTH = 64;
+
+    private static final int BLOCK_BYTES = 128;
+    private static final int HASH_BYTES = 64;
+
+    private static final long[] K = {
+            0x428a2f98d728ae22L, 0x7137449123ef65cdL, 0xb5c0fbcfec4d3b2fL, 0xe9b5dba58189dbbcL,
+            0x3956c25bf348b538L, 0x59f111f1b605d019L, 0x923f82a4af194f9bL, 0xab1c5ed5da6d8118L,
+            0xd807aa98a3030242L, 0x12835b0145706fbeL, 0x243185be4ee4b28cL, 0x550c7dc3d5ffb4e2L,
+            0x72be5d74f27b896fL, 0x80deb1fe3b1696b1L, 0x9bdc06a725c71235L, 0xc19bf174cf692694L,
+            0xe49b69c19ef14ad2L, 0xefbe4786384f25e3L, 0x0fc19dc68b8cd5b5L, 0x240ca1cc77ac9c65L,
+            0x2de92c6f592b0275L, 0x4a7484aa6ea6e483L, 0x5cb0a9dcbd41fbd4L, 0x76f988da831153b5L,
+            0x983e5152ee66dfabL, 0xa831c66d2db43210L, 0xb00327c898fb213fL, 0xbf597fc7beef0ee4L,
+            0xc6e00bf33da88fc2L, 0xd5a79147930aa725L, 0x06ca6351e003826fL, 0x142929670a0e6e70L,
+            0x27b70a8546d22ffcL, 0x2e1b21385c26c926L, 0x4d2c6dfc5ac42aedL, 0x53380d139d95b3dfL,
+            0x650a73548baf63deL, 0x766a0abb3c77b2a8L, 0x81c2c92e47edaee6L, 0x92722c851482353bL,
+            0xa2bfe8a14cf10364L, 0xa81a664bbc423001L, 0xc24b8b70d0f89791L, 0xc76c51a30654be30L,
+            0xd192e819d6ef5218L, 0xd69906245565a910L, 0xf40e35855771202aL, 0x106aa07032bbd1b8L,
+            0x19a4c116b8d2d0c8L, 0x1e376c085141ab53L, 0x2748774cdf8eeb99L, 0x34b0bcb5e19b48a8L,
+            0x391c0cb3c5c95a63L, 0x4ed8aa4ae3418acbL, 0x5b9cca4f7763e373L, 0x682e6ff3d6b2b8a3L,
+            0x748f82ee5defb2fcL, 0x78a5636f43172f60L, 0x84c87814a1f0ab72L, 0x8cc702081a6439ecL,
+            0x90befffa23631e28L, 0xa4506cebde82bde9L, 0xbef9a3f7b2c67915L, 0xc67178f2e372532bL,
+            0xca273eceea26619cL, 0xd186b8c721c0c207L, 0xeada7dd6cde0eb1eL, 0xf57d4f7fee6ed178L,
+            0x06f067aa72176fbaL, 0x0a637dc5a2c898a6L, 0x113f9804bef90daeL, 0x1b710b35131c471bL,
+            0x28db77f523047d84L, 0x32caab7b40c72493L, 0x3c9ebe0a15c9bebcL, 0x431d67c49c100d4cL,
+            0x4cc5d4becb3e42b6L, 0x597f299cfc657e2aL, 0x5fcb6fab3ad6faecL, 0x6c44198c4a475817L,
+    };
+
+    private static final long[] IV = {
+            0x6a09e667f3bcc908L, 0xbb67ae8584caa73bL, 0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L,
+            0x510e527fade682d1L, 0x9b05688c2b3e6c1fL, 0x1f83d9abfb41bd6bL, 0x5be0cd19137e2179L,
+    };
+
+    // Length in bits of a single-block message that follows one already-hashed pad block.
+    private static final long PADDED_HASH_BIT_LENGTH = (BLOCK_BYTES + HASH_BYTES) * 8L;
+
+    private static final ThreadLocal<Pbkdf2HmacSha512> sEngines = new ThreadLocal<Pbkdf2HmacSha512>() {
+        @Override
+        protected Pbkdf2HmacSha512 initialValue() {
+            return new Pbkdf2HmacSha512();
+        }
+    };
+
+    private final long[] mInnerState = new long[8];
+    private final long[] mOuterState = new long[8];
+    private final long[] mState = new long[8];
+    private final long[] mW = new long[80];
+    private final long[] mU = new long[8];
+    private final long[] mT = new long[8];
+    private final byte[] mPad = new byte[BLOCK_BYTES];
+    private final byte[] mTail = new byte[BLOCK_BYTES * 2];
+
+    static Pbkdf2HmacSha512 get() {
+        return sEngines.get();
+    }
+
+    /** BIP-39 seed: PBKDF2(NFKD(mnemonic), "mnemonic" + NFKD(passphrase), 2048, 64). */
+    static byte[] bip39Seed(String mnemonic, String passphrase) {
+        byte[] password = Normalizer.normalize(mnemonic, Normalizer.Form.NFKD)
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] salt = ("mnemonic" + Normalizer.normalize(passphrase, Normalizer.Form.NFKD))
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] seed = new byte[SEED_LENGTH];
+        try {
+            get().derive(password, salt, BIP39_ITERATIONS, seed);
+        } finally {
+            Arrays.fill(password, (byte) 0);
+        }
+        return seed;
+    }
+
+    void derive(byte[] password, byte[] salt, int iterations, byte[] out) {
+        initPads(password);
+        int blocks = (out.length + HASH_BYTES - 1) / HASH_BYTES;
+        for (int block = 1; block <= blocks; block++) {
+            // U1 = HMAC(P, S || INT(block)) is the only step with a variable-length message.
+            hashInner(salt, block);
+            finishOuter();
+            System.arraycopy(mU, 0, mT, 0, 8);
+            for (int i = 1; i < iterations; i++) {
+                hashDigestBlock(mInnerState);
+                finishOuter();
+                for (int j = 0; j < 8; j++) {
+                    mT[j] ^= mU[j];
+                }
+            }
+            int offset = (block - 1) * HASH_BYTES;
+            int length = Math.min(HASH_BYTES, out.length - offset);
+            for (int i = 0; i < length; i++) {
+                out[offset + i] = (byte) (mT[i >> 3] >>> (56 - ((i & 7) << 3)));
+            }
+        }
+        wipe();
+    }
+
+    private void initPads(byte[] password) {
+        Arrays.fill(mPad, (byte) 0);
+        if (password.length > BLOCK_BYTES) {
+            System.arraycopy(IV, 0, mState, 0, 8);
+            hashMessage(password, 0, password.length, 0);
+            for (int i = 0; i < HASH_BYTES; i++) {
+                mPad[i] = (byte) (mState[i >> 3] >>> (56 - ((i & 7) << 3)));
+            }
+        } else {
+            System.arraycopy(password, 0, mPad, 0, password.length);
+        }
+        for (int i = 0; i < BLOCK_BYTES; i++) {
+            mPad[i] ^= 0x36;
+        }
+        System.arraycopy(IV, 0, mInnerState, 0, 8);
+        compress(mInnerState, mPad, 0);
+        for (int i = 0; i < BLOCK_BYTES; i++) {
+            mPad[i] ^= 0x36 ^ 0x5c;
+        }
+        System.arraycopy(IV, 0, mOuterState, 0, 8);
+        compress(mOuterState, mPad, 0);
+        Arrays.fill(mPad, (byte) 0);
+    }
+
+    /** Leaves inner(S || INT(block)) in {@code mU}. */
+    private void hashInner(byte[] salt, int block) {
+        System.arraycopy(mInnerState, 0, mState, 0, 8);
+        int full = salt.length / BLOCK_BYTES * BLOCK_BYTES;
+        for (int offset = 0; offset < full; offset += BLOCK_BYTES) {
+            compress(mState, salt, offset);
+        }
+        int rest = salt.length - full;
+        Arrays.fill(mTail, (byte) 0);
+        System.arraycopy(salt, full, mTail, 0, rest);
+        mTail[rest] = (byte) (block >>> 24);
+        mTail[rest + 1] = (byte) (block >>> 16);
+        mTail[rest + 2] = (byte) (block >>> 8);
+        mTail[rest + 3] = (byte) block;
+        long messageBytes = BLOCK_BYTES + salt.length + 4L;
+        hashMessage(mTail, 0, rest + 4, messageBytes);
+        System.arraycopy(mState, 0, mU, 0, 8);
+    }
+
+    /**
+     * Hashes the final {@code length} bytes of a message into {@code mState}, adding
+     * SHA-512 padding. {@code totalBytes} is the full message length including blocks
+     * already compressed; 0 means the message is just these bytes.
+     */
+    private void hashMessage(byte[] data, int offset, int length, long totalBytes) {
+        if (totalBytes == 0) {
+            totalBytes = length;
+        }
+        int full = length / BLOCK_BYTES * BLOCK_BYTES;
+        for (int i = 0; i < full; i += BLOCK_BYTES) {
+            compress(mState, data, offset + i);
+        }
+        int rest = length - full;
+        byte[] tail = mTail;
+        // data may be mTail itself, which System.arraycopy handles as an overlapping move.
+        System.arraycopy(data, offset + full, tail, 0, rest);
+        Arrays.fill(tail, rest, tail.length, (byte) 0);
+        tail[rest] = (byte) 0x80;
+        int tailLength = rest + 1 + 16 <= BLOCK_BYTES ? BLOCK_BYTES : BLOCK_BYTES * 2;
+        long bits = totalBytes * 8;
+        for (int i = 0; i < 8; i++) {
+            tail[tailLength - 1 - i] = (byte) (bits >>> (i * 8));
+        }
+        compress(mState, tail, 0);
+        if (tailLength > BLOCK_BYTES) {
+            compress(mState, tail, BLOCK_BYTES);
+        }
+    }
+
+    /** Runs the outer HMAC hash over {@code mU} and stores the result back in {@code mU}. */
+    private void finishOuter() {
+        hashDigestBlock(mOuterState);
+    }
+
+    /** mU = SHA-512 continuation from {@code padState} over the 64-byte message mU. */
+    private void hashDigestBlock(long[] padState) {
+        long[] w = mW;
+        System.arraycopy(mU, 0, w, 0, 8);
+        w[8] = 0x8000000000000000L;
+        for (int i = 9; i < 15; i++) {
+            w[i] = 0;
+        }
+        w[15] = PADDED_HASH_BIT_LENGTH;
+        System.arraycopy(padState, 0, mState, 0, 8);
+        compressSchedule(mState);
+        System.arraycopy(mState, 0, mU, 0, 8);
+    }
+
+    private void compress(long[] state, byte[] block, int offset) {
+        long[] w = mW;
+        for (int i = 0; i < 16; i++) {
+            int p = offset + i * 8;
+            w[i] = (block[p] & 0xffL) << 56
+                    | (block[p + 1] & 0xffL) << 48
+                    | (block[p + 2] & 0xffL) << 40
+                    | (block[p + 3] & 0xffL) << 32
+                    | (block[p + 4] & 0xffL) << 24
+                    | (block[p + 5] & 0xffL) << 16
+                    | (block[p + 6] & 0xffL) << 8
+                    | (block[p + 7] & 0xffL);
+        }
+        compressSchedule(state);
+    }
+
+    /** SHA-512 compression of the block already loaded into {@code mW[0..15]}. */
+    private void compressSchedule(long[] state) {
+        long[] w = mW;
+        for (int i = 16; i < 80; i++) {
+            long w15 = w[i - 15];
+            long w2 = w[i - 2];
+            long s0 = Long.rotateRight(w15, 1) ^ Long.rotateRight(w15, 8) ^ (w15 >>> 7);
+            long s1 = Long.rotateRight(w2, 19) ^ Long.rotateRight(w2, 61) ^ (w2 >>> 6);
+            w[i] = w[i - 16] + s0 + w[i - 7] + s1;
+        }
+        long a = state[0], b = state[1], c = state[2], d = state[3];
+        long e = state[4], f = state[5], g = state[6], h = state[7];
+        for (int i = 0; i < 80; i++) {
+            long s1 = Long.rotateRight(e, 14) ^ Long.rotateRight(e, 18) ^ Long.rotateRight(e, 41);
+            long ch = (e & f) ^ (~e & g);
+            long t1 = h + s1 + ch + K[i] + w[i];
+            long s0 = Long.rotateRight(a, 28) ^ Long.rotateRight(a, 34) ^ Long.rotateRight(a, 39);
+            long maj = (a & b) ^ (a & c) ^ (b & c);
+            long t2 = s0 + maj;
+            h = g;
+            g = f;
+            f = e;
+            e = d + t1;
+            d = c;
+            c = b;
+            b = a;
+            a = t1 + t2;
+        }
+        state[0] += a;
+        state[1] += b;
+        state[2] += c;
+        state[3] += d;
+        state[4] += e;
+        state[5] += f;
+        state[6] += g;
+        state[7] += h;
+    }
+
+    private void wipe() {
+        Arrays.fill(mInnerState, 0);
+        Arrays.fill(mOuterState, 0);
+        Arrays.fill(mState, 0);
+        Arrays.fill(mW, 0);
+        Arrays.fill(mU, 0);
+        Arrays.fill(mT, 0);
+        Arrays.fill(mTail, (byte) 0);
+    }
+}
@@ -1,32 +1,358 @@
 package me.rainbow.NativeModules.RNBip39;
 
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
 import android.util.Base64;
-import io.github.novacrypto.bip39.*;
 
-public class RNBip39Module extends ReactContextBaseJavaModule {
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RNBip39Module extends ReactContextBaseJavaModule implements LifecycleEventListener {
+    static final String DEFAULT_HD_PATH = "m/44'/60'/0'/0";
+    static final int MAX_DERIVE_COUNT = 100;
+    static final int DEFAULT_GAP_LIMIT = 20;
+    static final int DEFAULT_SUGGESTION_LIMIT = 4;
+
+    static final String EVENT_DISCOVERY_ACCOUNT = "RNBip39DiscoveryAccount";
+    static final String EVENT_DISCOVERY_SEED_COMPLETED = "RNBip39DiscoverySeedCompleted";
+
+    private final CryptoExecutor mExecutor = CryptoExecutor.createDefault();
+    private final MasterKeyCache mKeyCache =
+            new MasterKeyCache(MasterKeyCache.DEFAULT_TTL_MS, MasterKeyCache.DEFAULT_MAX_ENTRIES);
+    private final int mDiscoveryParallelism = Runtime.getRuntime().availableProcessors();
+    private ExecutorService mDiscoveryPool;
+    private final Map<String, MnemonicValidator.Session> mValidationSessions = new ConcurrentHashMap<>();
+
+    public RNBip39Module(ReactApplicationContext reactContext) {
+        super(reactContext);
+        reactContext.addLifecycleEventListener(this);
+    }
+
     @Override
     public String getName() {
         return "RNBip39";
     }
 
+    static String getOptionalString(ReadableMap options, String key) {
+        return options.hasKey(key) && !options.isNull(key) ? options.getString(key) : null;
+    }
+
+    void submit(ReadableMap options, Promise promise, CryptoExecutor.Task task) {
+        mExecutor.submit(
+                getOptionalString(options, "jobId"),
+                CryptoExecutor.parsePriority(getOptionalString(options, "priority")),
+                promise,
+                task);
+    }
+
     @ReactMethod
     public void mnemonicToSeed(ReadableMap options, final Promise promise) {
-        try {
-            String passphrase = options.getString("passphrase");
+        submit(options, promise, job -> {
+            String passphrase = getOptionalString(options, "passphrase");
             if(passphrase == null){
                 passphrase = "";
             }
             String mnemonic = options.getString("mnemonic");
-            byte[] seed = new SeedCalculator().calculateSeed(mnemonic, passphrase);
+            byte[] seed = Pbkdf2HmacSha512.bip39Seed(mnemonic, passphrase);
             String base64String = Base64.encodeToString(seed, Base64.NO_WRAP);
-            promise.resolve(base64String);
-        } catch(Exception e){
-            promise.reject(e);
+            Arrays.fill(seed, (byte) 0);
+            return base64String;
+        });
+    }
+
+    /**
+     * Derives checksummed addresses for {@code path/startIndex} .. {@code path/startIndex + count - 1}
+     * in a single call, so restoring a wallet doesn't pay one bridge round-trip and one
+     * PBKDF2 run per index. Resolves {@code {addresses: string[], queueWaitMs, executionMs}}.
+     */
+    @ReactMethod
+    public void deriveAccounts(ReadableMap options, final Promise promise) {
+        submit(options, promise, job -> {
+            String passphrase = getOptionalString(options, "passphrase");
+            if (passphrase == null) {
+                passphrase = "";
+            }
+            String mnemonic = options.getString("mnemonic");
+            String path = getOptionalString(options, "path");
+            if (path == null) {
+                path = DEFAULT_HD_PATH;
+            }
+            int startIndex = options.hasKey("startIndex") ? options.getInt("startIndex") : 0;
+            int count = options.hasKey("count") ? options.getInt("count") : 1;
+            if (startIndex < 0 || count < 1 || count > MAX_DERIVE_COUNT) {
+                throw new IllegalArgumentException("Invalid index range: " + startIndex + " + " + count);
+            }
+
+            Bip32.Node account = getAccountNode(mnemonic, passphrase, path);
+            try {
+                Keccak256 keccak = new Keccak256();
+                WritableArray addresses = Arguments.createArray();
+                for (int i = 0; i < count; i++) {
+                    job.throwIfCancelled();
+                    addresses.pushString(AccountDeriver.deriveAddress(account, startIndex + i, keccak));
+                }
+                WritableMap result = Arguments.createMap();
+                result.putArray("addresses", addresses);
+                return result;
+            } finally {
+                account.wipe();
+            }
+        });
+    }
+
+    /**
+     * Returns a node for {@code path} that the caller owns and must wipe, served from the key
+     * cache when the same seed and path were derived recently.
+     */
+    Bip32.Node getAccountNode(String mnemonic, String passphrase, String path) throws Exception {
+        String cacheKey = mKeyCache.key(mnemonic, passphrase, path);
+        Bip32.Node cached = mKeyCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] seed = Pbkdf2HmacSha512.bip39Seed(mnemonic, passphrase);
+        Bip32.Node root = Bip32.fromSeed(seed);
+        Arrays.fill(seed, (byte) 0);
+        Bip32.Node account = Bip32.derivePath(root, path);
+        if (account != root) {
+            root.wipe();
+        }
+        // Children of a non-hardened path all need the parent public key; compute it once.
+        account.compressedPublicKey();
+        mKeyCache.put(cacheKey, account);
+        return account;
+    }
+
+    @ReactMethod
+    public void getKeyCacheStats(final Promise promise) {
+        WritableMap stats = Arguments.createMap();
+        stats.putDouble("hits", mKeyCache.getHits());
+        stats.putDouble("misses", mKeyCache.getMisses());
+        stats.putDouble("evictions", mKeyCache.getEvictions());
+        stats.putInt("size", mKeyCache.size());
+        promise.resolve(stats);
+    }
+
+    @ReactMethod
+    public void clearKeyCache() {
+        mKeyCache.clear();
+    }
+
+    /**
+     * Gap-limit discovery over several seeds, fanned out across all cores. Used accounts are
+     * streamed as {@link #EVENT_DISCOVERY_ACCOUNT} events while the scan is running, and each
+     * seed reports {@link #EVENT_DISCOVERY_SEED_COMPLETED} as soon as it hits the gap limit.
+     *
+     * Usage is checked against {@code options.usedAddresses} when given, otherwise JS is asked
+     * per batch through {@link JsAddressUsageOracle}; cancelling the job fails a pending lookup
+     * right away. Resolves {@code {accountCounts: number[]}}.
+     */
+    @ReactMethod
+    public void discoverAccounts(ReadableMap options, final Promise promise) {
+        submit(options, promise, job -> {
+            String passphrase = getOptionalString(options, "passphrase");
+            final String seedPassphrase = passphrase == null ? "" : passphrase;
+            String path = getOptionalString(options, "path");
+            final String seedPath = path == null ? DEFAULT_HD_PATH : path;
+            int gapLimit = options.hasKey("gapLimit") ? options.getInt("gapLimit") : DEFAULT_GAP_LIMIT;
+            if (gapLimit < 1 || gapLimit > MAX_DERIVE_COUNT) {
+                throw new IllegalArgumentException("Invalid gap limit: " + gapLimit);
+            }
+            final String discoveryId = getOptionalString(options, "jobId");
+
+            ReadableArray mnemonicArray = options.getArray("mnemonics");
+            List<String> mnemonics = new ArrayList<>(mnemonicArray.size());
+            for (int i = 0; i < mnemonicArray.size(); i++) {
+                mnemonics.add(mnemonicArray.getString(i));
+            }
+
+            AddressUsageOracle oracle;
+            if (options.hasKey("usedAddresses") && !options.isNull("usedAddresses")) {
+                ReadableArray usedArray = options.getArray("usedAddresses");
+                List<String> used = new ArrayList<>(usedArray.size());
+                for (int i = 0; i < usedArray.size(); i++) {
+                    used.add(usedArray.getString(i));
+                }
+                oracle = new InMemoryAddressUsageOracle(used);
+            } else {
+                oracle = new JsAddressUsageOracle(getReactApplicationContext(), discoveryId);
+            }
+
+            AccountDiscovery.Listener listener = new AccountDiscovery.Listener() {
+                @Override
+                public void onAccountFound(int seedIndex, int accountIndex, String address) {
+                    WritableMap event = Arguments.createMap();
+                    event.putString("discoveryId", discoveryId);
+                    event.putInt("seedIndex", seedIndex);
+                    event.putInt("accountIndex", accountIndex);
+                    event.putString("address", address);
+                    emit(EVENT_DISCOVERY_ACCOUNT, event);
+                }
+
+                @Override
+                public void onSeedCompleted(int seedIndex, int accountCount) {
+                    WritableMap event = Arguments.createMap();
+                    event.putString("discoveryId", discoveryId);
+                    event.putInt("seedIndex", seedIndex);
+                    event.putInt("accountCount", accountCount);
+                    emit(EVENT_DISCOVERY_SEED_COMPLETED, event);
+                }
+            };
+
+            AccountDiscovery discovery = new AccountDiscovery(
+                    getDiscoveryPool(), mDiscoveryParallelism, gapLimit, oracle, listener, job);
+            // The crypto thread is released here; the scan continues on the discovery pool and
+            // never parks a thread while JS looks up a batch.
+            return discovery.run(mnemonics, mnemonic -> getAccountNode(mnemonic, seedPassphrase, seedPath))
+                    .thenApply(counts -> {
+                        WritableArray accountCounts = Arguments.createArray();
+                        for (int count : counts) {
+                            accountCounts.pushInt(count);
+                        }
+                        WritableMap result = Arguments.createMap();
+                        result.putArray("accountCounts", accountCounts);
+                        return result;
+                    });
+        });
+    }
+
+    /**
+     * Validates the phrase typed into the import screen. Calls with the same {@code sessionId}
+     * only look up words that changed since the previous call. Returns
+     * {@code {valid, wordCount, checksumValid, invalidWordIndexes, suggestions}}.
+     */
+    @ReactMethod(isBlockingSynchronousMethod = true)
+    public WritableMap validateMnemonic(String sessionId, String phrase) {
+        MnemonicValidator.Session session = mValidationSessions.get(sessionId);
+        if (session == null) {
+            session = new MnemonicValidator.Session();
+            mValidationSessions.put(sessionId, session);
+        }
+        MnemonicValidator.Result validation = session.update(phrase, DEFAULT_SUGGESTION_LIMIT);
+
+        WritableMap result = Arguments.createMap();
+        result.putBoolean("valid", validation.valid);
+        result.putInt("wordCount", validation.wordCount);
+        if (validation.checksumValid == null) {
+            result.putNull("checksumValid");
+        } else {
+            result.putBoolean("checksumValid", validation.checksumValid);
+        }
+        WritableArray invalidWordIndexes = Arguments.createArray();
+        for (int index : validation.invalidWordIndexes) {
+            invalidWordIndexes.pushInt(index);
+        }
+        result.putArray("invalidWordIndexes", invalidWordIndexes);
+        WritableArray suggestions = Arguments.createArray();
+        for (String word : validation.suggestions) {
+            suggestions.pushString(word);
+        }
+        result.putArray("suggestions", suggestions);
+        return result;
+    }
+
+    @ReactMethod
+    public void releaseMnemonicSession(String sessionId) {
+        MnemonicValidator.Session session = mValidationSessions.remove(sessionId);
+        if (session != null) {
+            session.clear();
+        }
+    }
+
+    private void clearValidationSessions() {
+        for (MnemonicValidator.Session session : mValidationSessions.values()) {
+            session.clear();
+        }
+        mValidationSessions.clear();
+    }
+
+    @ReactMethod
+    public void resolveAddressUsage(int requestId, ReadableArray usedFlags) {
+        JsAddressUsageOracle.resolve(requestId, usedFlags);
+    }
+
+    @ReactMethod
+    public void rejectAddressUsage(int requestId, String message) {
+        JsAddressUsageOracle.reject(requestId, message);
+    }
+
+    @ReactMethod
+    public void addListener(String eventName) {
+        // Required for NativeEventEmitter; events are emitted regardless of listeners.
+    }
+
+    @ReactMethod
+    public void removeListeners(double count) {
+        // Required for NativeEventEmitter.
+    }
+
+    private void emit(String eventName, WritableMap event) {
+        getReactApplicationContext()
+                .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                .emit(eventName, event);
+    }
+
+    private synchronized ExecutorService getDiscoveryPool() {
+        if (mDiscoveryPool == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            mDiscoveryPool = Executors.newFixedThreadPool(mDiscoveryParallelism, runnable -> {
+                Thread thread = new Thread(runnable, "RNBip39-discovery-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return mDiscoveryPool;
+    }
+
+    /** Cancels a queued or running job; resolves false if the id is unknown or already done. */
+    @ReactMethod
+    public void cancelJob(String jobId, final Promise promise) {
+        promise.resolve(mExecutor.cancel(jobId));
+    }
+
+    @Override
+    public void onHostResume() {}
+
+    @Override
+    public void onHostPause() {
+        // Don't keep derived keys or a half-typed phrase around while the app is in the background.
+        mKeyCache.clear();
+        clearValidationSessions();
+    }
+
+    @Override
+    public void onHostDestroy() {
+        mKeyCache.clear();
+        clearValidationSessions();
+    }
+
+    @Override
+    public void invalidate() {
+        getReactApplicationContext().removeLifecycleEventListener(this);
+        mExecutor.shutdown();
+        synchronized (this) {
+            if (mDiscoveryPool != null) {
+                mDiscoveryPool.shutdownNow();
+            }
         }
+        mKeyCache.shutdown();
+        clearValidationSessions();
+        super.invalidate();
     }
 
 }
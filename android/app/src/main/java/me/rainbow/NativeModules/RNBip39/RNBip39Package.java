@@ -5,14 +5,37 @@ import com.facebook.react.bridge.NativeModule;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.uimanager.ViewManager;
 
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import javax.crypto.Mac;
+
 public class RNBip39Package implements ReactPackage {
+    /**
+     * Loads the JCA providers ahead of the first JS call. Safe to call from any thread; later
+     * calls are cheap.
+     */
+    public static void warmUpCrypto() throws GeneralSecurityException {
+        MessageDigest.getInstance("SHA-256");
+        Mac.getInstance("HmacSHA512");
+        Mac.getInstance("HmacSHA256");
+    }
+
+    /** Copies and sorts the BIP-39 wordlist used by mnemonic validation. */
+    public static void warmUpWordlist() {
+        MnemonicValidator.indexOf("abandon");
+    }
+
     @Override
     public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
-        return Arrays.asList(new RNBip39Module());
+        RNBip39Module bip39 = new RNBip39Module(reactContext);
+        return Arrays.<NativeModule>asList(
+                bip39,
+                new RNChecksumAddressModule(reactContext),
+                new RNSignerModule(reactContext, bip39));
     }
 
     @Override
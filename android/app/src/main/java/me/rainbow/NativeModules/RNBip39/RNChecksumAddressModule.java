@@ -0,0 +1,52 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+/**
+ * Batch EIP-55 checksumming, so list renders convert every visible address
+ * in one synchronous call instead of hashing each one on the JS thread.
+ */
+public class RNChecksumAddressModule extends ReactContextBaseJavaModule {
+    static final int CACHE_SIZE = 2048;
+
+    private final ChecksumAddressCache mCache = new ChecksumAddressCache(CACHE_SIZE);
+
+    public RNChecksumAddressModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+    }
+
+    @Override
+    public String getName() {
+        return "RNChecksumAddress";
+    }
+
+    /** Same order as the input; invalid addresses map to null, like toChecksumAddress in JS. */
+    @ReactMethod(isBlockingSynchronousMethod = true)
+    public WritableArray toChecksumAddresses(ReadableArray addresses) {
+        WritableArray result = Arguments.createArray();
+        for (int i = 0; i < addresses.size(); i++) {
+            String checksummed = addresses.isNull(i) ? null : mCache.toChecksumAddress(addresses.getString(i));
+            if (checksummed == null) {
+                result.pushNull();
+            } else {
+                result.pushString(checksummed);
+            }
+        }
+        return result;
+    }
+
+    @ReactMethod(isBlockingSynchronousMethod = true)
+    public WritableMap getCacheStats() {
+        WritableMap stats = Arguments.createMap();
+        stats.putDouble("hits", mCache.getHits());
+        stats.putDouble("misses", mCache.getMisses());
+        stats.putInt("size", mCache.size());
+        return stats;
+    }
+}
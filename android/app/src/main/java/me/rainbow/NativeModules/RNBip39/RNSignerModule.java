@@ -0,0 +1,153 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Signs EIP-1559 transactions and EIP-712 typed data on the RNBip39 crypto executor, so RLP
+ * encoding, keccak and secp256k1 never run on the JS thread.
+ *
+ * Nothing is persisted here. Every sign call takes the secret the caller just loaded from the
+ * keychain, either {@code {privateKey}} or {@code {mnemonic, passphrase?, path?, index?}}, so
+ * the keychain's access control and wallet deletion keep covering it. Mnemonic keys go through
+ * the RNBip39 account key cache, and the private key is wiped once the call finishes. The
+ * last argument takes the usual {@code jobId}/{@code priority} job options.
+ */
+public class RNSignerModule extends ReactContextBaseJavaModule {
+    static final String KIND_TRANSACTION = "transaction";
+    static final String KIND_TYPED_DATA = "typedData";
+
+    private final RNBip39Module mBip39;
+
+    public RNSignerModule(ReactApplicationContext reactContext, RNBip39Module bip39) {
+        super(reactContext);
+        mBip39 = bip39;
+    }
+
+    @Override
+    public String getName() {
+        return "RNSigner";
+    }
+
+    /** Resolves {@code {serialized, hash, r, s, yParity}}. */
+    @ReactMethod
+    public void signTransaction(ReadableMap secret, ReadableMap tx, ReadableMap options, final Promise promise) {
+        mBip39.submit(options, promise, job -> {
+            byte[] privateKey = resolvePrivateKey(secret);
+            try {
+                return signTransaction(privateKey, tx.toHashMap(), new Keccak256());
+            } finally {
+                Arrays.fill(privateKey, (byte) 0);
+            }
+        });
+    }
+
+    /** Resolves {@code {signature, digest}} where signature is the 65-byte r || s || v hex. */
+    @ReactMethod
+    public void signTypedData(ReadableMap secret, ReadableMap typedData, ReadableMap options, final Promise promise) {
+        mBip39.submit(options, promise, job -> {
+            byte[] privateKey = resolvePrivateKey(secret);
+            try {
+                return signTypedData(privateKey, typedData.toHashMap(), new Keccak256());
+            } finally {
+                Arrays.fill(privateKey, (byte) 0);
+            }
+        });
+    }
+
+    /**
+     * Signs {@code [{kind: 'transaction' | 'typedData', payload}]} in order with one key load,
+     * e.g. an approval followed by a swap. Resolves {@code {results: [...]}} in input order.
+     */
+    @ReactMethod
+    public void signBatch(ReadableMap secret, ReadableArray payloads, ReadableMap options, final Promise promise) {
+        mBip39.submit(options, promise, job -> {
+            byte[] privateKey = resolvePrivateKey(secret);
+            try {
+                Keccak256 keccak = new Keccak256();
+                WritableArray results = Arguments.createArray();
+                for (int i = 0; i < payloads.size(); i++) {
+                    job.throwIfCancelled();
+                    ReadableMap item = payloads.getMap(i);
+                    String kind = item.getString("kind");
+                    Map<String, Object> payload = item.getMap("payload").toHashMap();
+                    if (KIND_TRANSACTION.equals(kind)) {
+                        results.pushMap(signTransaction(privateKey, payload, keccak));
+                    } else if (KIND_TYPED_DATA.equals(kind)) {
+                        results.pushMap(signTypedData(privateKey, payload, keccak));
+                    } else {
+                        throw new IllegalArgumentException("Unknown payload kind: " + kind);
+                    }
+                }
+                WritableMap result = Arguments.createMap();
+                result.putArray("results", results);
+                return result;
+            } finally {
+                Arrays.fill(privateKey, (byte) 0);
+            }
+        });
+    }
+
+    private static WritableMap signTransaction(byte[] privateKey, Map<String, Object> tx, Keccak256 keccak)
+            throws Exception {
+        Eip1559Transaction.Signed signed = Eip1559Transaction.sign(tx, privateKey, keccak);
+        WritableMap result = Arguments.createMap();
+        result.putString("serialized", signed.serialized);
+        result.putString("hash", signed.hash);
+        result.putString("r", Hex.encode(signed.signature.r));
+        result.putString("s", Hex.encode(signed.signature.s));
+        result.putInt("yParity", signed.signature.recoveryId);
+        return result;
+    }
+
+    private static WritableMap signTypedData(byte[] privateKey, Map<String, Object> typedData, Keccak256 keccak)
+            throws Exception {
+        byte[] digest = TypedDataEncoder.hash(typedData, keccak);
+        WritableMap result = Arguments.createMap();
+        result.putString("signature", Hex.encode(Secp256k1.sign(digest, privateKey).toBytes()));
+        result.putString("digest", Hex.encode(digest));
+        return result;
+    }
+
+    /** Returns the private key for {@code secret}, which the caller owns and must wipe. */
+    private byte[] resolvePrivateKey(ReadableMap secret) throws Exception {
+        String privateKey = RNBip39Module.getOptionalString(secret, "privateKey");
+        if (privateKey != null) {
+            return decodePrivateKey(privateKey);
+        }
+        String passphrase = RNBip39Module.getOptionalString(secret, "passphrase");
+        String path = RNBip39Module.getOptionalString(secret, "path");
+        Bip32.Node account = mBip39.getAccountNode(
+                secret.getString("mnemonic"),
+                passphrase == null ? "" : passphrase,
+                path == null ? RNBip39Module.DEFAULT_HD_PATH : path);
+        try {
+            Bip32.Node child = Bip32.deriveChild(account, secret.hasKey("index") ? secret.getInt("index") : 0);
+            byte[] key = child.privateKey.clone();
+            child.wipe();
+            return key;
+        } finally {
+            account.wipe();
+        }
+    }
+
+    private static byte[] decodePrivateKey(String hex) {
+        byte[] key = Hex.decode(hex);
+        if (key.length != 32 || !Secp256k1.isValidPrivateKey(new BigInteger(1, key))) {
+            Arrays.fill(key, (byte) 0);
+            throw new IllegalArgumentException("Invalid private key");
+        }
+        return key;
+    }
+}
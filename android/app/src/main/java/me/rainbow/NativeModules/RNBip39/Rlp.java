@@ -0,0 +1,75 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Recursive Length Prefix encoding. Items are {@code byte[]} (strings) or {@code List}s of
+ * items; integers must be converted with {@link #encodeInteger} first.
+ */
+final class Rlp {
+    private static final byte[] EMPTY = new byte[0];
+
+    private Rlp() {}
+
+    static byte[] encode(Object item) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, item);
+        return out.toByteArray();
+    }
+
+    /** Minimal big-endian encoding; zero is the empty string. */
+    static byte[] encodeInteger(BigInteger value) {
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("RLP integers must be non-negative");
+        }
+        if (value.signum() == 0) {
+            return EMPTY;
+        }
+        byte[] raw = value.toByteArray();
+        if (raw[0] == 0) {
+            byte[] trimmed = new byte[raw.length - 1];
+            System.arraycopy(raw, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return raw;
+    }
+
+    private static void write(ByteArrayOutputStream out, Object item) {
+        if (item instanceof byte[]) {
+            byte[] bytes = (byte[]) item;
+            if (bytes.length == 1 && (bytes[0] & 0xff) < 0x80) {
+                out.write(bytes[0]);
+                return;
+            }
+            writeLength(out, bytes.length, 0x80);
+            out.write(bytes, 0, bytes.length);
+        } else if (item instanceof List) {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            for (Object child : (List<?>) item) {
+                write(payload, child);
+            }
+            writeLength(out, payload.size(), 0xc0);
+            byte[] bytes = payload.toByteArray();
+            out.write(bytes, 0, bytes.length);
+        } else {
+            throw new IllegalArgumentException("Cannot RLP-encode " + item);
+        }
+    }
+
+    private static void writeLength(ByteArrayOutputStream out, int length, int offset) {
+        if (length < 56) {
+            out.write(offset + length);
+            return;
+        }
+        int lengthBytes = 0;
+        for (int l = length; l != 0; l >>>= 8) {
+            lengthBytes++;
+        }
+        out.write(offset + 55 + lengthBytes);
+        for (int i = lengthBytes - 1; i >= 0; i--) {
+            out.write(length >>> (i * 8));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.math.ec.ECMultiplier;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.util.BigIntegers;
+
+import java.math.BigInteger;
+import java.security.DigestException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * The secp256k1 operations needed for key derivation and signing: public keys and
+ * recoverable ECDSA.
+ *
+ * Everything that touches a private key or nonce runs on BouncyCastle's dedicated secp256k1
+ * field (fixed-width limbs), its fixed-point comb multiplier (regular addition sequence and
+ * cache-safe table lookups) and constant-time modular inversion, so timing doesn't depend
+ * on the secret.
+ */
+final class Secp256k1 {
+    private static final X9ECParameters CURVE = CustomNamedCurves.getByName("secp256k1");
+    private static final ECPoint G = CURVE.getG();
+    private static final ECMultiplier MULTIPLIER = new FixedPointCombMultiplier();
+
+    static final BigInteger N = CURVE.getN();
+    private static final BigInteger HALF_N = N.shiftRight(1);
+
+    private Secp256k1() {}
+
+    static boolean isValidPrivateKey(BigInteger k) {
+        return k.signum() > 0 && k.compareTo(N) < 0;
+    }
+
+    /**
+     * Returns the public key for {@code privateKey}, either as 33 compressed bytes or as
+     * 65 uncompressed bytes (0x04 || X || Y).
+     */
+    static byte[] publicKey(byte[] privateKey, boolean compressed) {
+        BigInteger k = new BigInteger(1, privateKey);
+        if (!isValidPrivateKey(k)) {
+            throw new IllegalArgumentException("Invalid private key");
+        }
+        return multiplyG(k).getEncoded(compressed);
+    }
+
+    /** Writes {@code value} as a 32-byte big-endian integer at {@code offset}. */
+    static void writeFixed(BigInteger value, byte[] out, int offset) {
+        BigIntegers.asUnsignedByteArray(value, out, offset, 32);
+    }
+
+    /** Recoverable ECDSA signature with low s, as Ethereum expects. */
+    static final class Signature {
+        final byte[] r = new byte[32];
+        final byte[] s = new byte[32];
+        /** 0 or 1: parity of R.y after low-s normalization. */
+        int recoveryId;
+
+        /** r || s || v with v = 27 + recoveryId, the eth_sign / EIP-712 wire format. */
+        byte[] toBytes() {
+            byte[] out = new byte[65];
+            System.arraycopy(r, 0, out, 0, 32);
+            System.arraycopy(s, 0, out, 32, 32);
+            out[64] = (byte) (27 + recoveryId);
+            return out;
+        }
+    }
+
+    /** Signs a 32-byte digest with a deterministic RFC 6979 nonce. */
+    static Signature sign(byte[] digest, byte[] privateKey) throws GeneralSecurityException {
+        BigInteger d = new BigInteger(1, privateKey);
+        if (!isValidPrivateKey(d)) {
+            throw new IllegalArgumentException("Invalid private key");
+        }
+        BigInteger z = new BigInteger(1, digest);
+        Rfc6979 nonces = new Rfc6979(privateKey, z.mod(N));
+        try {
+            while (true) {
+                BigInteger k = nonces.next();
+                ECPoint point = multiplyG(k);
+                BigInteger x = point.getAffineXCoord().toBigInteger();
+                BigInteger r = x.mod(N);
+                if (r.signum() == 0) {
+                    continue;
+                }
+                BigInteger s = BigIntegers.modOddInverse(N, k).multiply(z.add(r.multiply(d))).mod(N);
+                if (s.signum() == 0) {
+                    continue;
+                }
+                int recoveryId = (point.getAffineYCoord().testBitZero() ? 1 : 0) | (x.compareTo(N) >= 0 ? 2 : 0);
+                if (s.compareTo(HALF_N) > 0) {
+                    s = N.subtract(s);
+                    recoveryId ^= 1;
+                }
+                Signature signature = new Signature();
+                writeFixed(r, signature.r, 0);
+                writeFixed(s, signature.s, 0);
+                signature.recoveryId = recoveryId;
+                return signature;
+            }
+        } finally {
+            nonces.wipe();
+        }
+    }
+
+    /**
+     * HMAC-SHA256 DRBG from RFC 6979 section 3.2. HMAC is computed by hand over SHA-256 so
+     * that K, V and the padded keys only ever live in these arrays, which are updated in place
+     * and wiped by {@link #wipe}; a {@code SecretKeySpec} would keep its own copy of every K.
+     */
+    static final class Rfc6979 {
+        private static final int NO_SEPARATOR = -1;
+
+        private final MessageDigest mSha256;
+        private final byte[] mK = new byte[32];
+        private final byte[] mV = new byte[32];
+        private final byte[] mX = new byte[32];
+        private final byte[] mH = new byte[32];
+        private final byte[] mPad = new byte[64];
+        private final byte[] mInner = new byte[32];
+
+        Rfc6979(byte[] privateKey, BigInteger reducedDigest) throws GeneralSecurityException {
+            mSha256 = MessageDigest.getInstance("SHA-256");
+            writeFixed(new BigInteger(1, privateKey), mX, 0);
+            writeFixed(reducedDigest, mH, 0);
+            Arrays.fill(mV, (byte) 0x01);
+            hmac(mK, mV, 0x00, true);
+            hmac(mV, mV, NO_SEPARATOR, false);
+            hmac(mK, mV, 0x01, true);
+            hmac(mV, mV, NO_SEPARATOR, false);
+            // x and h are only needed for the two seeding rounds.
+            Arrays.fill(mX, (byte) 0);
+        }
+
+        BigInteger next() throws GeneralSecurityException {
+            while (true) {
+                hmac(mV, mV, NO_SEPARATOR, false);
+                BigInteger k = new BigInteger(1, mV);
+                // Prepare the state for the next candidate, needed if this k is out of range
+                // or yields r == 0 or s == 0.
+                hmac(mK, mV, 0x00, false);
+                hmac(mV, mV, NO_SEPARATOR, false);
+                if (isValidPrivateKey(k)) {
+                    return k;
+                }
+            }
+        }
+
+        void wipe() {
+            Arrays.fill(mK, (byte) 0);
+            Arrays.fill(mV, (byte) 0);
+            Arrays.fill(mX, (byte) 0);
+            Arrays.fill(mPad, (byte) 0);
+            Arrays.fill(mInner, (byte) 0);
+        }
+
+        /**
+         * out = HMAC_K(V [|| separator [|| x || h]]). {@code out} may be K or V: both are read
+         * in full before the final digest overwrites {@code out}.
+         */
+        private void hmac(byte[] out, byte[] v, int separator, boolean withSeed) throws DigestException {
+            xorPad(0x36);
+            mSha256.update(mPad);
+            mSha256.update(v);
+            if (separator != NO_SEPARATOR) {
+                mSha256.update((byte) separator);
+            }
+            if (withSeed) {
+                mSha256.update(mX);
+                mSha256.update(mH);
+            }
+            mSha256.digest(mInner, 0, 32);
+            xorPad(0x5c);
+            mSha256.update(mPad);
+            mSha256.update(mInner);
+            mSha256.digest(out, 0, 32);
+        }
+
+        private void xorPad(int pad) {
+            for (int i = 0; i < 32; i++) {
+                mPad[i] = (byte) (mK[i] ^ pad);
+            }
+            Arrays.fill(mPad, 32, 64, (byte) pad);
+        }
+    }
+
+    private static ECPoint multiplyG(BigInteger k) {
+        return MULTIPLIER.multiply(G, k).normalize();
+    }
+}
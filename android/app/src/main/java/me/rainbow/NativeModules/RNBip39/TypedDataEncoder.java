@@ -0,0 +1,225 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * EIP-712 typed data hashing (the eth_signTypedData_v4 encoding, including arrays and nested
+ * structs). Input is the usual JSON shape {@code {types, primaryType, domain, message}}
+ * converted to maps and lists, with numbers as strings or doubles.
+ */
+final class TypedDataEncoder {
+    private static final String DOMAIN_TYPE = "EIP712Domain";
+    private static final String[][] DOMAIN_FIELDS = {
+            {"name", "string"},
+            {"version", "string"},
+            {"chainId", "uint256"},
+            {"verifyingContract", "address"},
+            {"salt", "bytes32"},
+    };
+
+    private static final class Field {
+        final String name;
+        final String type;
+
+        Field(String name, String type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    private final Map<String, List<Field>> mTypes = new LinkedHashMap<>();
+    private final Keccak256 mKeccak;
+
+    @SuppressWarnings("unchecked")
+    private TypedDataEncoder(Map<String, Object> types, Map<String, Object> domain, Keccak256 keccak) {
+        mKeccak = keccak;
+        for (Map.Entry<String, Object> entry : types.entrySet()) {
+            List<Field> fields = new ArrayList<>();
+            for (Object field : (List<Object>) entry.getValue()) {
+                Map<String, Object> map = (Map<String, Object>) field;
+                fields.add(new Field((String) map.get("name"), (String) map.get("type")));
+            }
+            mTypes.put(entry.getKey(), fields);
+        }
+        if (!mTypes.containsKey(DOMAIN_TYPE)) {
+            // Like ethers, infer the domain type from the keys that are present.
+            List<Field> fields = new ArrayList<>();
+            for (String[] field : DOMAIN_FIELDS) {
+                if (domain.containsKey(field[0])) {
+                    fields.add(new Field(field[0], field[1]));
+                }
+            }
+            mTypes.put(DOMAIN_TYPE, fields);
+        }
+    }
+
+    /** keccak256(0x1901 || domainSeparator || hashStruct(message)). */
+    @SuppressWarnings("unchecked")
+    static byte[] hash(Map<String, Object> typedData, Keccak256 keccak) {
+        Map<String, Object> types = (Map<String, Object>) typedData.get("types");
+        Map<String, Object> domain = (Map<String, Object>) typedData.get("domain");
+        if (domain == null) {
+            domain = Collections.emptyMap();
+        }
+        String primaryType = (String) typedData.get("primaryType");
+        TypedDataEncoder encoder = new TypedDataEncoder(types, domain, keccak);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0x19);
+        out.write(0x01);
+        write(out, encoder.hashStruct(DOMAIN_TYPE, domain));
+        if (!DOMAIN_TYPE.equals(primaryType)) {
+            write(out, encoder.hashStruct(primaryType, (Map<String, Object>) typedData.get("message")));
+        }
+        return keccak.digest(out.toByteArray());
+    }
+
+    private byte[] hashStruct(String type, Map<String, Object> data) {
+        return mKeccak.digest(encodeData(type, data));
+    }
+
+    private byte[] encodeData(String type, Map<String, Object> data) {
+        List<Field> fields = mTypes.get(type);
+        if (fields == null) {
+            throw new IllegalArgumentException("Unknown type: " + type);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, mKeccak.digest(encodeType(type).getBytes(StandardCharsets.UTF_8)));
+        for (Field field : fields) {
+            write(out, encodeValue(field.type, data.get(field.name)));
+        }
+        return out.toByteArray();
+    }
+
+    /** The primary type followed by its struct dependencies in alphabetical order. */
+    String encodeType(String primaryType) {
+        TreeSet<String> dependencies = new TreeSet<>();
+        collectDependencies(primaryType, dependencies);
+        dependencies.remove(primaryType);
+        StringBuilder sb = new StringBuilder();
+        appendType(sb, primaryType);
+        for (String dependency : dependencies) {
+            appendType(sb, dependency);
+        }
+        return sb.toString();
+    }
+
+    private void appendType(StringBuilder sb, String type) {
+        sb.append(type).append('(');
+        List<Field> fields = mTypes.get(type);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(fields.get(i).type).append(' ').append(fields.get(i).name);
+        }
+        sb.append(')');
+    }
+
+    private void collectDependencies(String type, TreeSet<String> found) {
+        String base = baseType(type);
+        if (!mTypes.containsKey(base) || !found.add(base)) {
+            return;
+        }
+        for (Field field : mTypes.get(base)) {
+            collectDependencies(field.type, found);
+        }
+    }
+
+    private static String baseType(String type) {
+        int bracket = type.indexOf('[');
+        return bracket < 0 ? type : type.substring(0, bracket);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] encodeValue(String type, Object value) {
+        if (type.endsWith("]")) {
+            String itemType = type.substring(0, type.lastIndexOf('['));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (Object item : expect(List.class, type, value)) {
+                write(out, encodeValue(itemType, item));
+            }
+            return mKeccak.digest(out.toByteArray());
+        }
+        if (mTypes.containsKey(type)) {
+            return hashStruct(type, expect(Map.class, type, value));
+        }
+        if ("string".equals(type)) {
+            return mKeccak.digest(expect(String.class, type, value).getBytes(StandardCharsets.UTF_8));
+        }
+        if ("bytes".equals(type)) {
+            return mKeccak.digest(Hex.decode(expect(String.class, type, value)));
+        }
+        byte[] word = new byte[32];
+        if ("bool".equals(type)) {
+            word[31] = (byte) (expect(Boolean.class, type, value) ? 1 : 0);
+        } else if ("address".equals(type)) {
+            byte[] address = Hex.decode(expect(String.class, type, value));
+            if (address.length != 20) {
+                throw new IllegalArgumentException("Invalid address: " + value);
+            }
+            System.arraycopy(address, 0, word, 12, 20);
+        } else if (type.startsWith("bytes")) {
+            byte[] bytes = Hex.decode(expect(String.class, type, value));
+            int size = parseSize(type, 5, 1, 32, 1);
+            if (bytes.length > size) {
+                throw new IllegalArgumentException("Invalid " + type + ": " + value);
+            }
+            System.arraycopy(bytes, 0, word, 0, bytes.length);
+        } else if (type.startsWith("uint") || type.startsWith("int")) {
+            boolean signed = type.startsWith("int");
+            int bits = parseSize(type, signed ? 3 : 4, 8, 256, 8);
+            if (!(value instanceof Number) && !(value instanceof String)) {
+                throw new IllegalArgumentException("Expected a number for " + type + ", got " + value);
+            }
+            BigInteger number = Hex.toQuantity(value);
+            // Two's complement bounds for intN, [0, 2^N) for uintN; no silent truncation.
+            BigInteger min = signed ? BigInteger.ONE.shiftLeft(bits - 1).negate() : BigInteger.ZERO;
+            BigInteger max = BigInteger.ONE.shiftLeft(signed ? bits - 1 : bits);
+            if (number.compareTo(min) < 0 || number.compareTo(max) >= 0) {
+                throw new IllegalArgumentException("Value out of range for " + type + ": " + value);
+            }
+            Secp256k1.writeFixed(number.signum() < 0 ? number.add(BigInteger.ONE.shiftLeft(256)) : number, word, 0);
+        } else {
+            throw new IllegalArgumentException("Unsupported EIP-712 type: " + type);
+        }
+        return word;
+    }
+
+    /** Missing or mistyped values are an error, never a default encoding. */
+    @SuppressWarnings("unchecked")
+    private static <T> T expect(Class<? super T> kind, String type, Object value) {
+        if (!kind.isInstance(value)) {
+            throw new IllegalArgumentException(value == null
+                    ? "Missing value for " + type
+                    : "Expected " + kind.getSimpleName() + " for " + type + ", got " + value);
+        }
+        return (T) value;
+    }
+
+    /** The N of bytesN/uintN/intN, which must be a multiple of {@code step} in [min, max]. */
+    private static int parseSize(String type, int prefix, int min, int max, int step) {
+        int size;
+        try {
+            size = type.length() == prefix ? 256 : Integer.parseInt(type.substring(prefix));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unsupported EIP-712 type: " + type);
+        }
+        if (size < min || size > max || size % step != 0) {
+            throw new IllegalArgumentException("Unsupported EIP-712 type: " + type);
+        }
+        return size;
+    }
+
+    private static void write(ByteArrayOutputStream out, byte[] bytes) {
+        out.write(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,224 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import java.util.Arrays;
+
+/**
+ * Per-view state of an animated balance: the value formula, the formatted text and the fade
+ * level of every character. Everything is sized once per {@code animate} call, so a steady
+ * state {@link #update} only writes into the existing primitive arrays.
+ *
+ * Plain Java on purpose: views render it through {@link BalanceTextBinding} or
+ * {@link RollingNumberView}, and the benchmarks project tests it on the JVM.
+ */
+class AnimatedBalance {
+    /** Fade levels a changed character steps down through, brightest first. */
+    static final int DECREASING = 150;
+    // The fade is timed, not counted in ticks, so the frame rate cap doesn't stretch it. This
+    // is what the 150 levels took at the original 30 ms tick.
+    static final long FADE_DURATION_NANOS = DECREASING * 30_000_000L;
+    static final int VALUE_WIDTH = 12;
+    // Roughly what the previous String.valueOf(float) formatting showed before zero padding.
+    static final int SIGNIFICANT_DIGITS = 8;
+    private static final String SUFFIX = "    ";
+    private static final double MS_PER_DAY = 24 * 60 * 60 * 1000;
+    static final long RETARGET_DURATION_NANOS = 600_000_000L;
+
+    // value(t) = base + step * (t - baseTime), plus an offset that eases out after a retarget.
+    private double mBaseValue;
+    private final double mStepPerDay;
+    private long mBaseNanos;
+    private double mRetargetOffset;
+    private final int mValueOffset;
+
+    private final char[] mText;
+    private final char[] mPrevText;
+    private final int[] mFade;
+    // Frame time and starting level of each character's current fade.
+    private final long[] mLitAtNanos;
+    private final int[] mLitLevel;
+    private final boolean[] mDirty;
+    private final int[] mColorByFade;
+    private final char[] mDigits = new char[20];
+    private boolean mFirstUpdate = true;
+
+    AnimatedBalance(double initialValue, double stepPerDay, boolean isStable, int color,
+                    boolean darkMode, String symbol, long startNanos) {
+        mBaseValue = initialValue;
+        mStepPerDay = stepPerDay;
+        mBaseNanos = startNanos;
+
+        // "$" + value + suffix for stablecoins, value + " " + symbol + suffix otherwise.
+        String prefix = isStable ? "$" : "";
+        String tail = (isStable ? "" : " " + symbol) + SUFFIX;
+        mValueOffset = prefix.length();
+        int length = prefix.length() + VALUE_WIDTH + tail.length();
+        mText = new char[length];
+        prefix.getChars(0, prefix.length(), mText, 0);
+        tail.getChars(0, tail.length(), mText, mValueOffset + VALUE_WIDTH);
+        mPrevText = new char[length];
+        mFade = new int[length];
+        mLitAtNanos = new long[length];
+        mLitLevel = new int[length];
+        mDirty = new boolean[length];
+        mColorByFade = buildFadeColors(color, darkMode);
+    }
+
+    /** The text color for every fade level, from the accent color back to the base color. */
+    private static int[] buildFadeColors(int color, boolean darkMode) {
+        int reds = color & 0x00ff0000;
+        int greens = color & 0x0000ff00;
+        int blues = color & 0x000000ff;
+        int colort = darkMode ? 0xFFFFFFFF : 0xFF000000;
+        int redt = colort & 0x00ff0000;
+        int greent = colort & 0x0000ff00;
+        int bluet = colort & 0x000000ff;
+
+        int[] colors = new int[DECREASING + 2];
+        for (int level = 1; level < colors.length; level++) {
+            float lastUpdateValue = level;
+            int red = (int) (lastUpdateValue / 300 * reds + redt * (1 - lastUpdateValue / DECREASING));
+            int blue = (int) (lastUpdateValue / 300 * blues + bluet * (1 - lastUpdateValue / DECREASING));
+            int green = (int) (lastUpdateValue / 300 * greens + greent * (1 - lastUpdateValue / DECREASING));
+            colors[level] = 0xff000000 | blue & 0x000000ff | green & 0x0000ff00 | red & 0x00ff0000;
+        }
+        return colors;
+    }
+
+    double valueAt(long frameTimeNanos) {
+        long elapsedNanos = frameTimeNanos - mBaseNanos;
+        double value = mBaseValue + elapsedNanos / 1_000_000d * mStepPerDay / MS_PER_DAY;
+        if (mRetargetOffset != 0 && elapsedNanos < RETARGET_DURATION_NANOS) {
+            // Ease-out cubic from the value shown at retarget time onto the new line.
+            double remaining = 1 - Math.max(0, elapsedNanos) / (double) RETARGET_DURATION_NANOS;
+            value += mRetargetOffset * remaining * remaining * remaining;
+        }
+        return value;
+    }
+
+    /**
+     * Moves the animation onto a new value: from {@code frameTimeNanos} on, the displayed value
+     * eases from wherever it is now to {@code target}, then keeps growing by the step.
+     */
+    void retarget(double target, long frameTimeNanos) {
+        double current = valueAt(frameTimeNanos);
+        mBaseValue = target;
+        mBaseNanos = frameTimeNanos;
+        mRetargetOffset = current - target;
+    }
+
+    /**
+     * Formats the value for this frame and advances the fade of every character. Returns
+     * false when the text and colors are identical to the previous frame, so the caller can
+     * skip touching the view.
+     */
+    boolean update(long frameTimeNanos) {
+        formatValue(valueAt(frameTimeNanos), mText, mValueOffset);
+        if (mFirstUpdate) {
+            System.arraycopy(mText, 0, mPrevText, 0, mText.length);
+            Arrays.fill(mDirty, true);
+            mFirstUpdate = false;
+            return true;
+        }
+        boolean changed = false;
+        for (int i = 0; i < mText.length; i++) {
+            mDirty[i] = false;
+        }
+        for (int i = 0; i < mText.length; i++) {
+            if (mPrevText[i] != mText[i]) {
+                light(i, DECREASING, frameTimeNanos);
+                // Digits right of a change light up too, until the next space.
+                for (int j = i + 1; j < mText.length && mText[j] != ' '; j++) {
+                    light(j, DECREASING + 1, frameTimeNanos);
+                }
+            }
+            mPrevText[i] = mText[i];
+        }
+        for (int i = 0; i < mText.length; i++) {
+            int fade = fadeAt(i, frameTimeNanos);
+            if (fade != mFade[i]) {
+                mFade[i] = fade;
+                mDirty[i] = true;
+            }
+            changed |= mDirty[i];
+        }
+        return changed;
+    }
+
+    private void light(int index, int level, long frameTimeNanos) {
+        mLitAtNanos[index] = frameTimeNanos;
+        mLitLevel[index] = level;
+        mDirty[index] = true;
+    }
+
+    private int fadeAt(int index, long frameTimeNanos) {
+        int level = mLitLevel[index];
+        if (level == 0) {
+            return 0;
+        }
+        long elapsed = frameTimeNanos - mLitAtNanos[index];
+        if (elapsed >= FADE_DURATION_NANOS) {
+            mLitLevel[index] = 0;
+            return 0;
+        }
+        return Math.max(0, level - (int) (Math.max(0, elapsed) * DECREASING / FADE_DURATION_NANOS));
+    }
+
+    int length() {
+        return mText.length;
+    }
+
+    /** The formatted text; owned by this object and rewritten by every {@link #update}. */
+    char[] text() {
+        return mText;
+    }
+
+    /** The color of the character at {@code index}, or {@code baseColor} once it has faded. */
+    int colorAt(int index, int baseColor) {
+        int fade = mFade[index];
+        return fade > 0 ? mColorByFade[fade] : baseColor;
+    }
+
+    /** Whether the character or color at {@code index} changed in the last {@link #update}. */
+    boolean isDirty(int index) {
+        return mDirty[index];
+    }
+
+    /**
+     * Writes {@code value} as exactly {@link #VALUE_WIDTH} chars: integer part, '.', then
+     * fraction digits, zero padded after {@link #SIGNIFICANT_DIGITS} significant digits.
+     */
+    void formatValue(double value, char[] out, int offset) {
+        int pos = offset;
+        int end = offset + VALUE_WIDTH;
+        if (value < 0) {
+            out[pos++] = '-';
+            value = -value;
+        }
+        long integer = (long) value;
+        double fraction = value - integer;
+        int digitCount = 0;
+        long remaining = integer;
+        do {
+            mDigits[digitCount++] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        int significant = integer == 0 ? 0 : digitCount;
+        while (digitCount > 0 && pos < end) {
+            out[pos++] = mDigits[--digitCount];
+        }
+        if (pos < end) {
+            out[pos++] = '.';
+        }
+        while (pos < end) {
+            fraction *= 10;
+            int digit = (int) fraction;
+            fraction -= digit;
+            if (significant >= SIGNIFICANT_DIGITS) {
+                digit = 0;
+            } else if (significant > 0 || digit > 0) {
+                significant++;
+            }
+            out[pos++] = (char) ('0' + digit);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import android.text.Editable;
+import android.text.Spannable;
+import android.text.SpannableStringBuilder;
+import android.text.TextPaint;
+import android.text.style.CharacterStyle;
+import android.text.style.UpdateAppearance;
+import android.widget.EditText;
+
+import java.nio.CharBuffer;
+
+/**
+ * Renders an {@link AnimatedBalance} into an {@link EditText} by editing the view's own
+ * {@link Editable} in place. The text and one color span per character are handed to the
+ * view once; after that a tick rewrites only the characters that changed and recolors spans
+ * by mutating them, so no builder, span or string is created per frame. A tick that only
+ * moves fade colors doesn't touch the text at all and just redraws.
+ *
+ * All methods must be called on the main thread.
+ */
+class BalanceTextBinding implements FrameTicker.Listener {
+    /** A color span whose color can change without allocating a new span. */
+    static final class FadeSpan extends CharacterStyle implements UpdateAppearance {
+        int color;
+
+        @Override
+        public void updateDrawState(TextPaint paint) {
+            paint.setColor(color);
+        }
+    }
+
+    private final EditText mView;
+    private final AnimatedBalance mBalance;
+    private final FadeSpan[] mSpans;
+    private final CharBuffer mText;
+    private final int mBaseColor;
+    private Editable mEditable;
+
+    BalanceTextBinding(EditText view, AnimatedBalance balance) {
+        mView = view;
+        mBalance = balance;
+        mSpans = new FadeSpan[balance.length()];
+        for (int i = 0; i < mSpans.length; i++) {
+            mSpans[i] = new FadeSpan();
+        }
+        mText = CharBuffer.wrap(balance.text());
+        mBaseColor = view.getCurrentTextColor();
+    }
+
+    @Override
+    public boolean onTick(long frameTimeNanos) {
+        if (!mBalance.update(frameTimeNanos)) {
+            return false;
+        }
+        Editable editable = mView.getText();
+        if (editable != mEditable || editable.length() != mSpans.length) {
+            // First frame, or something else replaced the text: hand the view a fresh copy.
+            bind();
+            return true;
+        }
+        char[] text = mBalance.text();
+        for (int i = 0; i < mSpans.length; i++) {
+            if (!mBalance.isDirty(i)) {
+                continue;
+            }
+            mSpans[i].color = mBalance.colorAt(i, mBaseColor);
+            if (editable.charAt(i) != text[i]) {
+                editable.replace(i, i + 1, mText, i, i + 1);
+                // Replacing the whole range of an exclusive span may drop it; put it back.
+                editable.setSpan(mSpans[i], i, i + 1, Spannable.SPAN_EXCLUSIVE_EXCLUSIVE);
+            }
+        }
+        // Text edits relayout on their own; a color-only change just needs a redraw.
+        mView.invalidate();
+        return true;
+    }
+
+    private void bind() {
+        SpannableStringBuilder builder = new SpannableStringBuilder(mText);
+        for (int i = 0; i < mSpans.length; i++) {
+            mSpans[i].color = mBalance.colorAt(i, mBaseColor);
+            builder.setSpan(mSpans[i], i, i + 1, Spannable.SPAN_EXCLUSIVE_EXCLUSIVE);
+        }
+        // setText copies into a new Editable; keep the view's copy, not the builder.
+        mView.setText(builder);
+        mEditable = mView.getText();
+    }
+}
@@ -0,0 +1,120 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import android.view.Choreographer;
+
+import com.facebook.react.bridge.UiThreadUtil;
+
+import me.rainbow.NativeModules.FrameMetrics.FrameMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One vsync-aligned ticker shared by every animated view. It posts a single
+ * {@link Choreographer.FrameCallback} while at least one listener is registered and calls
+ * every listener from the same frame, skipping frames to stay under the configured max rate.
+ * While the host is paused no callback is posted at all; listeners stay registered and pick up
+ * from the current frame time on resume.
+ *
+ * All methods must be called on the main thread.
+ */
+class FrameTicker implements Choreographer.FrameCallback {
+    interface Listener {
+        /** Returns whether the listener's view changed this frame. */
+        boolean onTick(long frameTimeNanos);
+    }
+
+    static final int DEFAULT_MAX_FRAME_RATE = 33;
+    // Vsync timestamps jitter a little; don't drop a frame that arrives just before its slot.
+    private static final long SLACK_NANOS = 2_000_000;
+
+    private static FrameTicker sInstance;
+
+    private final List<Listener> mListeners = new ArrayList<>();
+    private Listener[] mSnapshot = new Listener[0];
+    private boolean mSnapshotDirty;
+    private boolean mRunning;
+    private boolean mHostPaused;
+    private long mMinIntervalNanos;
+    private long mLastTickNanos;
+
+    static FrameTicker getInstance() {
+        UiThreadUtil.assertOnUiThread();
+        if (sInstance == null) {
+            sInstance = new FrameTicker();
+        }
+        return sInstance;
+    }
+
+    private FrameTicker() {
+        setMaxFrameRate(DEFAULT_MAX_FRAME_RATE);
+    }
+
+    void setMaxFrameRate(double framesPerSecond) {
+        mMinIntervalNanos = framesPerSecond > 0 ? (long) (1_000_000_000L / framesPerSecond) : 0;
+    }
+
+    void add(Listener listener) {
+        if (mListeners.contains(listener)) {
+            return;
+        }
+        mListeners.add(listener);
+        mSnapshotDirty = true;
+        updateRunning();
+    }
+
+    void remove(Listener listener) {
+        if (mListeners.remove(listener)) {
+            mSnapshotDirty = true;
+        }
+        updateRunning();
+    }
+
+    void setHostPaused(boolean paused) {
+        mHostPaused = paused;
+        updateRunning();
+    }
+
+    private void updateRunning() {
+        boolean shouldRun = !mHostPaused && !mListeners.isEmpty();
+        if (shouldRun == mRunning) {
+            return;
+        }
+        mRunning = shouldRun;
+        if (shouldRun) {
+            mLastTickNanos = 0;
+            Choreographer.getInstance().postFrameCallback(this);
+        } else {
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+    }
+
+    int size() {
+        return mListeners.size();
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!mRunning) {
+            return;
+        }
+        Choreographer.getInstance().postFrameCallback(this);
+        if (mLastTickNanos != 0 && frameTimeNanos - mLastTickNanos + SLACK_NANOS < mMinIntervalNanos) {
+            return;
+        }
+        mLastTickNanos = frameTimeNanos;
+        if (mSnapshotDirty) {
+            mSnapshot = mListeners.toArray(new Listener[0]);
+            mSnapshotDirty = false;
+        }
+        // Iterate the snapshot so listeners can unregister themselves while ticking.
+        long start = System.nanoTime();
+        int updated = 0;
+        for (Listener listener : mSnapshot) {
+            if (listener.onTick(frameTimeNanos)) {
+                updated++;
+            }
+        }
+        FrameMetrics.TEXT_ANIMATOR.record(start, updated);
+    }
+}
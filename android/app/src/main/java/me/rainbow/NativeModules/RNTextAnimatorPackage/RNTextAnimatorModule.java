@@ -0,0 +1,175 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import android.graphics.Color;
+import android.util.Log;
+
+import com.facebook.react.bridge.LifecycleEventListener;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.uimanager.IllegalViewOperationException;
+import com.facebook.react.uimanager.NativeViewHierarchyManager;
+import com.facebook.react.uimanager.UIBlock;
+import com.facebook.react.uimanager.UIManagerModule;
+import com.facebook.react.views.textinput.ReactEditText;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+public class RNTextAnimatorModule extends ReactContextBaseJavaModule implements LifecycleEventListener {
+    // Confined to the UI thread: written from UI blocks, read by nothing on the frame path.
+    // Ticks go through FrameTicker's listener snapshot, so no lock is ever taken per frame.
+    final Map<Integer, ViewTicking> idsToTicking = new HashMap<>();
+
+    RNTextAnimatorModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+        reactContext.addLifecycleEventListener(this);
+    }
+
+    @Override
+    public String getName() {
+        return "RNTextAnimator";
+    }
+
+    @ReactMethod
+    public void setMaxFrameRate(final double framesPerSecond) {
+        UiThreadUtil.runOnUiThread(() -> FrameTicker.getInstance().setMaxFrameRate(framesPerSecond));
+    }
+
+    @ReactMethod
+    public void animate(final int viewId, @Nonnull ReadableMap config) {
+        final AnimatedBalance balance = createBalance(config);
+        addUIBlock(nativeViewHierarchyManager -> startOnUiThread(nativeViewHierarchyManager, viewId, balance));
+    }
+
+    /**
+     * Starts several animations in one bridge call and one UI block. {@code items} holds
+     * {@code {viewId, config}} maps with the same config keys as {@link #animate}.
+     */
+    @ReactMethod
+    public void animateMany(ReadableArray items) {
+        final int count = items.size();
+        final int[] viewIds = new int[count];
+        final AnimatedBalance[] balances = new AnimatedBalance[count];
+        for (int i = 0; i < count; i++) {
+            ReadableMap item = items.getMap(i);
+            viewIds[i] = item.getInt("viewId");
+            balances[i] = createBalance(item.getMap("config"));
+        }
+        addUIBlock(nativeViewHierarchyManager -> {
+            for (int i = 0; i < count; i++) {
+                try {
+                    startOnUiThread(nativeViewHierarchyManager, viewIds[i], balances[i]);
+                } catch (IllegalViewOperationException e) {
+                    // The row unmounted before the block ran; don't let it take the batch down.
+                    Log.w(getName(), "Skipping animation for missing view " + viewIds[i], e);
+                }
+            }
+        });
+    }
+
+    @ReactMethod
+    public void stop(final int viewId) {
+        // Queued behind the animate block of the same view, so a quick animate/stop pair works.
+        addUIBlock(nativeViewHierarchyManager -> stopOnUiThread(viewId));
+    }
+
+    @ReactMethod
+    public void stopMany(ReadableArray viewIds) {
+        final int count = viewIds.size();
+        final int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = viewIds.getInt(i);
+        }
+        addUIBlock(nativeViewHierarchyManager -> {
+            for (int viewId : ids) {
+                stopOnUiThread(viewId);
+            }
+        });
+    }
+
+    private void addUIBlock(UIBlock block) {
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(block);
+    }
+
+    // Everything the tick needs is parsed and allocated here, once per animation.
+    private static AnimatedBalance createBalance(ReadableMap config) {
+        return new AnimatedBalance(
+                config.getDouble("initialValue"),
+                config.getDouble("stepPerDay"),
+                config.getBoolean("isStable"),
+                Color.parseColor(config.getString("color")),
+                config.getBoolean("darkMode"),
+                config.getString("symbol"),
+                System.nanoTime());
+    }
+
+    private void startOnUiThread(NativeViewHierarchyManager nativeViewHierarchyManager, int viewId,
+                                 AnimatedBalance balance) {
+        ReactEditText view = (ReactEditText) nativeViewHierarchyManager.resolveView(viewId);
+        view.setFontFeatureSettings("'tnum'");
+        stopOnUiThread(viewId);
+        ViewTicking ticking = new ViewTicking(view, new BalanceTextBinding(view, balance));
+        idsToTicking.put(viewId, ticking);
+        ValueFeed.getInstance().register(viewId, balance);
+        ticking.start();
+    }
+
+    private void stopOnUiThread(int viewId) {
+        ViewTicking ticking = idsToTicking.remove(viewId);
+        if (ticking != null) {
+            ticking.stop();
+            ValueFeed.getInstance().unregister(viewId);
+        }
+    }
+
+    /**
+     * Eases running animations to new values. {@code pairs} is flat: viewId, value, viewId,
+     * value, ... so a whole price update crosses the bridge once. Works for both animate()
+     * rows and RNRollingNumberView tags; unknown ids are ignored.
+     */
+    @ReactMethod
+    public void pushValues(ReadableArray pairs) {
+        int count = pairs.size() / 2;
+        int[] viewIds = new int[count];
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            viewIds[i] = pairs.getInt(2 * i);
+            values[i] = pairs.getDouble(2 * i + 1);
+        }
+        ValueFeed.getInstance().push(viewIds, values, count);
+    }
+
+    @Override
+    public void onHostResume() {
+        UiThreadUtil.runOnUiThread(() -> FrameTicker.getInstance().setHostPaused(false));
+    }
+
+    @Override
+    public void onHostPause() {
+        UiThreadUtil.runOnUiThread(() -> FrameTicker.getInstance().setHostPaused(true));
+    }
+
+    @Override
+    public void onHostDestroy() {
+        UiThreadUtil.runOnUiThread(() -> FrameTicker.getInstance().setHostPaused(true));
+    }
+
+    @Override
+    public void invalidate() {
+        getReactApplicationContext().removeLifecycleEventListener(this);
+        UiThreadUtil.runOnUiThread(() -> {
+            Object[] keys = idsToTicking.keySet().toArray();
+            for (Object viewId : keys) {
+                stopOnUiThread((Integer) viewId);
+            }
+        });
+        super.invalidate();
+    }
+}
@@ -0,0 +1,75 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.uimanager.LayoutShadowNode;
+import com.facebook.react.uimanager.PixelUtil;
+import com.facebook.react.uimanager.annotations.ReactProp;
+import com.facebook.yoga.YogaMeasureFunction;
+import com.facebook.yoga.YogaMeasureMode;
+import com.facebook.yoga.YogaMeasureOutput;
+import com.facebook.yoga.YogaNode;
+
+import javax.annotation.Nullable;
+
+/**
+ * Gives {@link RollingNumberView} an intrinsic size under Yoga, which never calls the view's
+ * own onMeasure. The text is always {@link AnimatedBalance#VALUE_WIDTH} value characters plus
+ * a fixed prefix and suffix, and digits are tabular, so the width only depends on the config
+ * and font size and is measured once per prop change, not per tick.
+ */
+class RollingNumberShadowNode extends LayoutShadowNode implements YogaMeasureFunction {
+    private final Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG | Paint.SUBPIXEL_TEXT_FLAG);
+    private final Paint.FontMetrics mMetrics = new Paint.FontMetrics();
+    private final float[] mAdvance = new float[1];
+    private ReadableMap mConfig;
+
+    RollingNumberShadowNode() {
+        mPaint.setFontFeatureSettings("'tnum'");
+        mPaint.setTextSize(PixelUtil.toPixelFromSP(RollingNumberViewManager.DEFAULT_FONT_SIZE));
+        setMeasureFunction(this);
+    }
+
+    @ReactProp(name = "config")
+    public void setConfig(@Nullable ReadableMap config) {
+        mConfig = config;
+        dirty();
+    }
+
+    @ReactProp(name = "fontSize", defaultFloat = RollingNumberViewManager.DEFAULT_FONT_SIZE)
+    public void setFontSize(float fontSize) {
+        mPaint.setTextSize(PixelUtil.toPixelFromSP(fontSize));
+        dirty();
+    }
+
+    @Override
+    public long measure(YogaNode node, float width, YogaMeasureMode widthMode,
+                        float height, YogaMeasureMode heightMode) {
+        mPaint.getFontMetrics(mMetrics);
+        float textWidth = 0;
+        if (mConfig != null) {
+            AnimatedBalance sample = new AnimatedBalance(
+                    mConfig.getDouble("initialValue"),
+                    0,
+                    mConfig.getBoolean("isStable"),
+                    Color.BLACK,
+                    false,
+                    mConfig.getString("symbol"),
+                    0);
+            sample.update(0);
+            textWidth = RollingNumberView.layoutCells(mPaint, sample.text(), sample.length(), null, mAdvance);
+        }
+        return YogaMeasureOutput.make(
+                constrain((float) Math.ceil(textWidth), width, widthMode),
+                constrain((float) Math.ceil(mMetrics.descent - mMetrics.ascent), height, heightMode));
+    }
+
+    private static float constrain(float size, float limit, YogaMeasureMode mode) {
+        if (mode == YogaMeasureMode.EXACTLY) {
+            return limit;
+        }
+        return mode == YogaMeasureMode.AT_MOST ? Math.min(size, limit) : size;
+    }
+}
@@ -0,0 +1,153 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.view.View;
+
+/**
+ * Draws an {@link AnimatedBalance} straight to the canvas, one fixed-width cell per character.
+ *
+ * Digits are drawn with tabular figures, so every digit cell has the same advance and the
+ * cell positions only change with the font size or when a non-digit moves (9.99 -> 10.00).
+ * The size comes from {@link RollingNumberShadowNode} and doesn't change while ticking, so a
+ * tick never needs layout or measure: it redraws when a character or fade color changed and
+ * does nothing otherwise. Hardware rendering re-records the whole view on invalidate, which
+ * for a dozen glyphs is cheaper than tracking dirty cells.
+ */
+class RollingNumberView extends View implements FrameTicker.Listener {
+    private final Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG | Paint.SUBPIXEL_TEXT_FLAG);
+    private final Paint.FontMetrics mMetrics = new Paint.FontMetrics();
+    private AnimatedBalance mBalance;
+    private int mBaseColor = 0xFF000000;
+    // Set through the color prop; until then the base color follows the config's darkMode.
+    private Integer mColor;
+    private boolean mDarkMode;
+    private final float[] mAdvance = new float[1];
+    private float[] mCellLeft = new float[0];
+    // The text the cell positions were computed for.
+    private char[] mLaidOutText = new char[0];
+    private final ViewTicking mTicking = new ViewTicking(this, this);
+
+    RollingNumberView(Context context) {
+        super(context);
+        mPaint.setFontFeatureSettings("'tnum'");
+        mPaint.getFontMetrics(mMetrics);
+    }
+
+    void setBalance(AnimatedBalance balance, boolean darkMode) {
+        mBalance = balance;
+        ValueFeed.getInstance().register(getId(), balance);
+        mDarkMode = darkMode;
+        updateBaseColor();
+        balance.update(System.nanoTime());
+        relayoutCells();
+        mTicking.start();
+    }
+
+    void setColor(Integer color) {
+        mColor = color;
+        updateBaseColor();
+        invalidate();
+    }
+
+    private void updateBaseColor() {
+        mBaseColor = mColor != null ? mColor : mDarkMode ? 0xFFFFFFFF : 0xFF000000;
+    }
+
+    /** Stops ticking for good; called when React drops the view. */
+    void release() {
+        mTicking.stop();
+        if (mBalance != null) {
+            ValueFeed.getInstance().unregister(getId());
+        }
+    }
+
+    void setTextSize(float pixels) {
+        mPaint.setTextSize(pixels);
+        mPaint.getFontMetrics(mMetrics);
+        relayoutCells();
+    }
+
+    private void relayoutCells() {
+        if (mBalance == null) {
+            return;
+        }
+        char[] text = mBalance.text();
+        int length = mBalance.length();
+        if (mCellLeft.length != length + 1) {
+            mCellLeft = new float[length + 1];
+            mLaidOutText = new char[length];
+        }
+        System.arraycopy(text, 0, mLaidOutText, 0, length);
+        layoutCells(mPaint, text, length, mCellLeft, mAdvance);
+        invalidate();
+    }
+
+    /**
+     * Fills {@code cellLeft} (length + 1 entries, may be null) with the x of every cell and
+     * returns the total width. {@code advance} is a one-entry scratch array owned by the
+     * caller. Shared with the shadow node so both agree on the size.
+     */
+    static float layoutCells(Paint paint, char[] text, int length, float[] cellLeft, float[] advance) {
+        // Every digit shares the advance of '0' thanks to tnum; other characters keep theirs.
+        paint.getTextWidths("0", advance);
+        float digitAdvance = advance[0];
+        float x = 0;
+        for (int i = 0; i < length; i++) {
+            if (cellLeft != null) {
+                cellLeft[i] = x;
+            }
+            if (isDigit(text[i])) {
+                x += digitAdvance;
+            } else {
+                paint.getTextWidths(text, i, 1, advance);
+                x += advance[0];
+            }
+        }
+        if (cellLeft != null) {
+            cellLeft[length] = x;
+        }
+        return x;
+    }
+
+    @Override
+    public boolean onTick(long frameTimeNanos) {
+        AnimatedBalance balance = mBalance;
+        if (balance == null || !balance.update(frameTimeNanos)) {
+            return false;
+        }
+        char[] text = balance.text();
+        for (int i = 0; i < balance.length(); i++) {
+            char laidOut = mLaidOutText[i];
+            if (balance.isDirty(i) && text[i] != laidOut && !(isDigit(text[i]) && isDigit(laidOut))) {
+                // e.g. 9.99 -> 10.00 moves the '.', which shifts every cell after it.
+                relayoutCells();
+                return true;
+            }
+        }
+        invalidate();
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        AnimatedBalance balance = mBalance;
+        if (balance == null) {
+            return;
+        }
+        float baseline = -mMetrics.ascent + getPaddingTop();
+        char[] text = balance.text();
+        for (int i = 0; i < balance.length(); i++) {
+            if (text[i] == ' ') {
+                continue;
+            }
+            mPaint.setColor(balance.colorAt(i, mBaseColor));
+            canvas.drawText(text, i, 1, mCellLeft[i] + getPaddingLeft(), baseline, mPaint);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import android.graphics.Color;
+
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.module.annotations.ReactModule;
+import com.facebook.react.uimanager.LayoutShadowNode;
+import com.facebook.react.uimanager.PixelUtil;
+import com.facebook.react.uimanager.SimpleViewManager;
+import com.facebook.react.uimanager.ThemedReactContext;
+import com.facebook.react.uimanager.annotations.ReactProp;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Exposes {@link RollingNumberView} as {@code RNRollingNumberView}. The {@code config} prop
+ * takes the same keys as {@code RNTextAnimator.animate} and {@code color} sets the text color
+ * (black or white by {@code darkMode} when unset). The view starts ticking as soon as it has
+ * a config and is attached, with no module calls or view lookups. Its size comes from
+ * {@link RollingNumberShadowNode}, so it can be laid out without an explicit width.
+ */
+@ReactModule(name = RollingNumberViewManager.REACT_CLASS)
+public class RollingNumberViewManager extends SimpleViewManager<RollingNumberView> {
+    static final String REACT_CLASS = "RNRollingNumberView";
+    static final float DEFAULT_FONT_SIZE = 14;
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return REACT_CLASS;
+    }
+
+    @Nonnull
+    @Override
+    protected RollingNumberView createViewInstance(@Nonnull ThemedReactContext reactContext) {
+        RollingNumberView view = new RollingNumberView(reactContext);
+        view.setTextSize(PixelUtil.toPixelFromSP(DEFAULT_FONT_SIZE));
+        return view;
+    }
+
+    @Override
+    public LayoutShadowNode createShadowNodeInstance() {
+        return new RollingNumberShadowNode();
+    }
+
+    @Override
+    public Class<? extends LayoutShadowNode> getShadowNodeClass() {
+        return RollingNumberShadowNode.class;
+    }
+
+    @Override
+    public void onDropViewInstance(@Nonnull RollingNumberView view) {
+        super.onDropViewInstance(view);
+        view.release();
+    }
+
+    @ReactProp(name = "config")
+    public void setConfig(RollingNumberView view, @Nullable ReadableMap config) {
+        if (config == null) {
+            return;
+        }
+        boolean darkMode = config.getBoolean("darkMode");
+        view.setBalance(new AnimatedBalance(
+                config.getDouble("initialValue"),
+                config.getDouble("stepPerDay"),
+                config.getBoolean("isStable"),
+                Color.parseColor(config.getString("color")),
+                darkMode,
+                config.getString("symbol"),
+                System.nanoTime()), darkMode);
+    }
+
+    @ReactProp(name = "color", customType = "Color")
+    public void setColor(RollingNumberView view, @Nullable Integer color) {
+        view.setColor(color);
+    }
+
+    @ReactProp(name = "fontSize", defaultFloat = DEFAULT_FONT_SIZE)
+    public void setFontSize(RollingNumberView view, float fontSize) {
+        view.setTextSize(PixelUtil.toPixelFromSP(fontSize));
+    }
+}
@@ -0,0 +1,59 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import android.util.SparseArray;
+import android.view.Choreographer;
+
+import com.facebook.react.bridge.UiThreadUtil;
+
+/**
+ * Routes new target values to running balance animations.
+ *
+ * Producers on any thread {@link #push} (viewId, value) pairs into a pending buffer. The
+ * first push after a drain schedules one frame callback on the main thread, which swaps the
+ * buffer and retargets every animation once, so any number of pushes within a frame costs a
+ * single main-thread hop. Later pairs for the same view win.
+ */
+class ValueFeed implements Choreographer.FrameCallback {
+    private static final ValueFeed sInstance = new ValueFeed();
+
+    private final ValueFeedBuffer mBuffer = new ValueFeedBuffer();
+
+    // Main thread only.
+    private final SparseArray<AnimatedBalance> mTargets = new SparseArray<>();
+
+    private final Runnable mSchedule = () -> Choreographer.getInstance().postFrameCallback(this);
+
+    static ValueFeed getInstance() {
+        return sInstance;
+    }
+
+    void register(int viewId, AnimatedBalance balance) {
+        UiThreadUtil.assertOnUiThread();
+        mTargets.put(viewId, balance);
+    }
+
+    void unregister(int viewId) {
+        UiThreadUtil.assertOnUiThread();
+        mTargets.remove(viewId);
+    }
+
+    /** Queues {@code count} pairs; safe to call from any thread. */
+    void push(int[] viewIds, double[] values, int count) {
+        if (mBuffer.push(viewIds, values, count)) {
+            UiThreadUtil.runOnUiThread(mSchedule);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        int count = mBuffer.drain();
+        int[] ids = mBuffer.drainedIds();
+        double[] values = mBuffer.drainedValues();
+        for (int i = 0; i < count; i++) {
+            AnimatedBalance balance = mTargets.get(ids[i]);
+            if (balance != null) {
+                balance.retarget(values[i], frameTimeNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import java.util.Arrays;
+
+/**
+ * The pending side of {@link ValueFeed}: (viewId, value) pairs pushed from any thread into
+ * one buffer and swapped out whole by the consumer, so producers never wait on retargeting
+ * and neither side allocates once the buffers have grown to the usual batch size.
+ *
+ * Plain Java so the benchmarks project can test it against a stand-in value source.
+ */
+final class ValueFeedBuffer {
+    private final Object mLock = new Object();
+    private int[] mPendingIds = new int[32];
+    private double[] mPendingValues = new double[32];
+    private int mPendingCount;
+    private boolean mScheduled;
+
+    // Consumer side only.
+    private int[] mDrainIds = new int[32];
+    private double[] mDrainValues = new double[32];
+
+    /**
+     * Queues {@code count} pairs. Returns true for the first push after a drain, i.e. when the
+     * caller has to schedule the next {@link #drain}.
+     */
+    boolean push(int[] viewIds, double[] values, int count) {
+        synchronized (mLock) {
+            int needed = mPendingCount + count;
+            if (needed > mPendingIds.length) {
+                int capacity = Math.max(needed, mPendingIds.length * 2);
+                mPendingIds = Arrays.copyOf(mPendingIds, capacity);
+                mPendingValues = Arrays.copyOf(mPendingValues, capacity);
+            }
+            System.arraycopy(viewIds, 0, mPendingIds, mPendingCount, count);
+            System.arraycopy(values, 0, mPendingValues, mPendingCount, count);
+            mPendingCount = needed;
+            boolean schedule = !mScheduled && count > 0;
+            mScheduled |= schedule;
+            return schedule;
+        }
+    }
+
+    /**
+     * Takes everything pushed so far and returns how many pairs there are; read them from
+     * {@link #drainedIds} and {@link #drainedValues} in push order before the next drain.
+     */
+    int drain() {
+        synchronized (mLock) {
+            int count = mPendingCount;
+            int[] ids = mPendingIds;
+            double[] values = mPendingValues;
+            mPendingIds = mDrainIds;
+            mPendingValues = mDrainValues;
+            mDrainIds = ids;
+            mDrainValues = values;
+            mPendingCount = 0;
+            mScheduled = false;
+            return count;
+        }
+    }
+
+    int[] drainedIds() {
+        return mDrainIds;
+    }
+
+    double[] drainedValues() {
+        return mDrainValues;
+    }
+}
@@ -0,0 +1,105 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import android.graphics.Rect;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+/**
+ * Keeps a {@link FrameTicker.Listener} registered only while its view is attached, shown and
+ * at least partly inside the window. Visibility is re-checked on layout and scroll rather
+ * than per frame, so a hidden row costs nothing until something moves it back on screen.
+ *
+ * Animations derive their value from the frame time, so a resumed listener jumps straight to
+ * the current value instead of replaying the frames it missed.
+ *
+ * All methods must be called on the main thread.
+ */
+class ViewTicking implements View.OnAttachStateChangeListener,
+        ViewTreeObserver.OnGlobalLayoutListener, ViewTreeObserver.OnScrollChangedListener {
+    private final View mView;
+    private final FrameTicker.Listener mListener;
+    private final Rect mVisibleRect = new Rect();
+    private ViewTreeObserver mObserver;
+    private boolean mStarted;
+    private boolean mTicking;
+
+    ViewTicking(View view, FrameTicker.Listener listener) {
+        mView = view;
+        mListener = listener;
+    }
+
+    void start() {
+        if (mStarted) {
+            return;
+        }
+        mStarted = true;
+        mView.addOnAttachStateChangeListener(this);
+        if (mView.isAttachedToWindow()) {
+            observe();
+        }
+        refresh();
+    }
+
+    void stop() {
+        if (!mStarted) {
+            return;
+        }
+        mStarted = false;
+        mView.removeOnAttachStateChangeListener(this);
+        unobserve();
+        refresh();
+    }
+
+    @Override
+    public void onViewAttachedToWindow(View v) {
+        observe();
+        refresh();
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(View v) {
+        unobserve();
+        refresh();
+    }
+
+    @Override
+    public void onGlobalLayout() {
+        refresh();
+    }
+
+    @Override
+    public void onScrollChanged() {
+        refresh();
+    }
+
+    private void observe() {
+        unobserve();
+        mObserver = mView.getViewTreeObserver();
+        mObserver.addOnGlobalLayoutListener(this);
+        mObserver.addOnScrollChangedListener(this);
+    }
+
+    private void unobserve() {
+        if (mObserver != null && mObserver.isAlive()) {
+            mObserver.removeOnGlobalLayoutListener(this);
+            mObserver.removeOnScrollChangedListener(this);
+        }
+        mObserver = null;
+    }
+
+    private void refresh() {
+        boolean shouldTick = mStarted
+                && mView.isAttachedToWindow()
+                && mView.isShown()
+                && mView.getGlobalVisibleRect(mVisibleRect);
+        if (shouldTick == mTicking) {
+            return;
+        }
+        mTicking = shouldTick;
+        if (shouldTick) {
+            FrameTicker.getInstance().add(mListener);
+        } else {
+            FrameTicker.getInstance().remove(mListener);
+        }
+    }
+}
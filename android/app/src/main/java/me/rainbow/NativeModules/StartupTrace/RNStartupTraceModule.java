@@ -0,0 +1,48 @@
+package me.rainbow.NativeModules.StartupTrace;
+
+import android.os.Process;
+import android.os.SystemClock;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+public class RNStartupTraceModule extends ReactContextBaseJavaModule {
+    public RNStartupTraceModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+    }
+
+    @Override
+    public String getName() {
+        return "RNStartupTrace";
+    }
+
+    /**
+     * Resolves with {processStartTime, phases: [{name, thread, startTime, duration, running}]}.
+     * Times are wall-clock ms, like the JS performance reports; durations are ms. A phase that
+     * is still running has {@code running: true} and its duration so far.
+     */
+    @ReactMethod
+    public void getTimeline(Promise promise) {
+        long now = SystemClock.elapsedRealtimeNanos();
+        WritableMap timeline = Arguments.createMap();
+        timeline.putDouble("processStartTime",
+                (double) (StartupTrace.WALL_CLOCK_OFFSET_MS + Process.getStartElapsedRealtime()));
+        WritableArray phases = Arguments.createArray();
+        StartupTrace.forEach((name, thread, startNanos, endNanos) -> {
+            WritableMap phase = Arguments.createMap();
+            phase.putString("name", name);
+            phase.putString("thread", thread);
+            phase.putDouble("startTime", StartupTrace.WALL_CLOCK_OFFSET_MS + startNanos / 1e6);
+            phase.putDouble("duration", ((endNanos != 0 ? endNanos : now) - startNanos) / 1e6);
+            phase.putBoolean("running", endNanos == 0);
+            phases.pushMap(phase);
+        });
+        timeline.putArray("phases", phases);
+        promise.resolve(timeline);
+    }
+}
@@ -0,0 +1,68 @@
+package me.rainbow.NativeModules.StartupTrace;
+
+import android.os.SystemClock;
+import android.os.Trace;
+
+/**
+ * Cold-start phase tracing for code that runs before JS is up.
+ *
+ * Each phase is an {@link android.os.Trace} section, so it shows up in systrace/Perfetto, and
+ * is also kept in a fixed-size buffer of monotonic timestamps that {@link RNStartupTraceModule}
+ * hands to JS as one timeline. Recording never allocates; phases past the capacity are only
+ * traced. The lock is only contended by the few startup threads.
+ */
+public final class StartupTrace {
+    static final int CAPACITY = 64;
+
+    // Converts elapsedRealtime to wall-clock ms, which is what the JS performance reports use.
+    static final long WALL_CLOCK_OFFSET_MS = System.currentTimeMillis() - SystemClock.elapsedRealtime();
+
+    private static final String[] sNames = new String[CAPACITY];
+    private static final long[] sStartNanos = new long[CAPACITY];
+    private static final long[] sEndNanos = new long[CAPACITY];
+    private static final String[] sThreads = new String[CAPACITY];
+    private static int sCount;
+
+    private StartupTrace() {}
+
+    /** Starts a phase on the current thread; pass the result to {@link #end}. */
+    public static int begin(String name) {
+        Trace.beginSection(name);
+        return record(name, SystemClock.elapsedRealtimeNanos(), 0);
+    }
+
+    public static void end(int index) {
+        long now = SystemClock.elapsedRealtimeNanos();
+        if (index >= 0) {
+            synchronized (StartupTrace.class) {
+                sEndNanos[index] = now;
+            }
+        }
+        Trace.endSection();
+    }
+
+    /** Returns the phase's slot, or -1 when the buffer is full. */
+    private static synchronized int record(String name, long startNanos, long endNanos) {
+        if (sCount == CAPACITY) {
+            return -1;
+        }
+        int index = sCount++;
+        sNames[index] = name;
+        sThreads[index] = Thread.currentThread().getName();
+        sStartNanos[index] = startNanos;
+        sEndNanos[index] = endNanos;
+        return index;
+    }
+
+    interface Visitor {
+        /** {@code endNanos} is 0 for a phase that is still running. */
+        void visit(String name, String thread, long startNanos, long endNanos);
+    }
+
+    /** Visits every phase, finished or not, in the order they were started. */
+    static synchronized void forEach(Visitor visitor) {
+        for (int i = 0; i < sCount; i++) {
+            visitor.visit(sNames[i], sThreads[i], sStartNanos[i], sEndNanos[i]);
+        }
+    }
+}
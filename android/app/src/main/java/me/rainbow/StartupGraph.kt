@@ -0,0 +1,73 @@
+package me.rainbow
+
+import android.util.Log
+import me.rainbow.NativeModules.StartupTrace.StartupTrace
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Runs startup work that doesn't need the main thread on one background thread, each task as
+ * soon as the tasks it depends on are done. Main-thread blockers stay in
+ * [MainApplication.onCreate]; everything here is warm-up whose result is also computed lazily
+ * if a caller gets there first.
+ *
+ * A single thread keeps the warm-up from competing with the main thread for cores during
+ * startup. Only widen it with before/after numbers from the StartupTrace timeline, where every
+ * task shows up as "startup:<name>".
+ */
+class StartupGraph {
+    private class Task(val name: String, val dependsOn: List<String>, val run: () -> Unit)
+
+    private val tasks = LinkedHashMap<String, Task>()
+    private val futures = HashMap<String, CompletableFuture<Void>>()
+
+    fun add(name: String, dependsOn: List<String> = emptyList(), run: () -> Unit): StartupGraph {
+        require(name !in tasks) { "Duplicate startup task $name" }
+        tasks[name] = Task(name, dependsOn, run)
+        return this
+    }
+
+    /** Schedules every task and returns right away; the thread exits once all are done. */
+    fun start() {
+        val executor = createExecutor()
+        for (task in tasks.values) {
+            schedule(task, executor, HashSet())
+        }
+        CompletableFuture.allOf(*futures.values.toTypedArray()).whenComplete { _, _ -> executor.shutdown() }
+    }
+
+    private fun schedule(task: Task, executor: ExecutorService, visiting: MutableSet<String>): CompletableFuture<Void> {
+        futures[task.name]?.let { return it }
+        check(visiting.add(task.name)) { "Startup task cycle through ${task.name}" }
+        val dependencies = task.dependsOn.map { name ->
+            schedule(requireNotNull(tasks[name]) { "Unknown startup dependency $name" }, executor, visiting)
+        }
+        val future = CompletableFuture.allOf(*dependencies.toTypedArray())
+            .thenRunAsync({ runTimed(task) }, executor)
+        futures[task.name] = future
+        return future
+    }
+
+    private fun runTimed(task: Task) {
+        // Recorded when it starts, so a task still running when JS reads the timeline shows up.
+        val phase = StartupTrace.begin("startup:${task.name}")
+        try {
+            task.run()
+        } catch (e: Exception) {
+            // Warm-up only: whoever needs the result later computes it again.
+            Log.w(TAG, "Startup task ${task.name} failed", e)
+        } finally {
+            StartupTrace.end(phase)
+        }
+    }
+
+    private fun createExecutor(): ExecutorService =
+        Executors.newSingleThreadExecutor { runnable ->
+            Thread(runnable, "startup-warmup").apply { isDaemon = true }
+        }
+
+    companion object {
+        private const val TAG = "StartupGraph"
+    }
+}
@@ -0,0 +1,63 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-account costs after the seed is known: BIP-32 child derivation, secp256k1 public key,
+ * keccak-256 address hashing and EIP-55 checksumming, plus a 20-account import end to end.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DerivationBenchmark {
+    private Bip32.Node mAccount;
+    private byte[] mPrivateKey;
+    private byte[] mPublicKey;
+    private byte[] mAddress;
+    private final Keccak256 mKeccak = new Keccak256();
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        byte[] seed = Pbkdf2HmacSha512.bip39Seed(SeedBenchmark.MNEMONIC, "");
+        mAccount = Bip32.derivePath(Bip32.fromSeed(seed), "m/44'/60'/0'/0");
+        mAccount.compressedPublicKey();
+        mPrivateKey = Bip32.deriveChild(mAccount, 0).privateKey;
+        mPublicKey = Secp256k1.publicKey(mPrivateKey, false);
+        mAddress = EthAddress.fromPublicKey(mPublicKey, mKeccak);
+    }
+
+    @Benchmark
+    public Bip32.Node bip32DeriveChild() throws GeneralSecurityException {
+        return Bip32.deriveChild(mAccount, 7);
+    }
+
+    @Benchmark
+    public byte[] secp256k1PublicKey() {
+        return Secp256k1.publicKey(mPrivateKey, false);
+    }
+
+    @Benchmark
+    public byte[] keccakAddress() {
+        return EthAddress.fromPublicKey(mPublicKey, mKeccak);
+    }
+
+    @Benchmark
+    public String eip55Checksum() {
+        return EthAddress.toChecksumAddress(mAddress, mKeccak);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String[] importTwentyAccounts() throws GeneralSecurityException {
+        return AccountDeriver.deriveAddresses(mAccount, 0, 20);
+    }
+}
@@ -0,0 +1,59 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import io.github.novacrypto.bip39.SeedCalculator;
+
+/**
+ * BIP-39 mnemonic to seed (PBKDF2-HMAC-SHA512, 2048 rounds) across the implementations
+ * the app has used or could use.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SeedBenchmark {
+    static final String MNEMONIC =
+            "test test test test test test test test test test test junk";
+
+    private final SecretKeyFactory mJavaxFactory;
+
+    public SeedBenchmark() {
+        try {
+            mJavaxFactory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA512");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] novaCrypto() {
+        return new SeedCalculator().calculateSeed(MNEMONIC, "");
+    }
+
+    @Benchmark
+    public byte[] javax() throws GeneralSecurityException {
+        PBEKeySpec spec = new PBEKeySpec(
+                MNEMONIC.toCharArray(),
+                "mnemonic".getBytes(StandardCharsets.UTF_8),
+                Pbkdf2HmacSha512.BIP39_ITERATIONS,
+                Pbkdf2HmacSha512.SEED_LENGTH * 8);
+        return mJavaxFactory.generateSecret(spec).getEncoded();
+    }
+
+    @Benchmark
+    public byte[] pbkdf2HmacSha512() {
+        return Pbkdf2HmacSha512.bip39Seed(MNEMONIC, "");
+    }
+}
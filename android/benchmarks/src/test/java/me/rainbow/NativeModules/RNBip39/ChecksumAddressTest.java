@@ -0,0 +1,86 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+/** EIP-55 checksums against the test cases listed in the EIP. */
+public class ChecksumAddressTest {
+    private static final String[] EIP55_VECTORS = {
+            // All caps
+            "0x52908400098527886E0F7030069857D2E4169EE7",
+            "0x8617E340B3D01FA5F11F306F4090FD50E238070D",
+            // All lower
+            "0xde709f2102306220921060314715629080e2fb77",
+            "0x27b1fdb04752bbc536007a920d24acb045561c26",
+            // Normal
+            "0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAed",
+            "0xfB6916095ca1df60bB79Ce92cE3Ea74c37c5d359",
+            "0xdbF03B407c01E7cD3CBea99509d93f8DDDC8C6FB",
+            "0xD1220A0cf47c7B9Be7A2E6BA89F429762e7b9aDb",
+    };
+
+    @Test
+    public void checksumsEip55Vectors() {
+        Keccak256 keccak = new Keccak256();
+        for (String expected : EIP55_VECTORS) {
+            byte[] address = unhex(expected.substring(2));
+            assertEquals(expected, EthAddress.toChecksumAddress(address, keccak));
+        }
+    }
+
+    @Test
+    public void cacheAcceptsAnyCasingWithOrWithoutPrefix() {
+        ChecksumAddressCache cache = new ChecksumAddressCache(4);
+        for (String expected : EIP55_VECTORS) {
+            String hex = expected.substring(2);
+            assertEquals(expected, cache.toChecksumAddress(hex.toLowerCase(Locale.ROOT)));
+            assertEquals(expected, cache.toChecksumAddress("0x" + hex.toUpperCase(Locale.ROOT)));
+            assertEquals(expected, cache.toChecksumAddress("0X" + hex));
+        }
+    }
+
+    @Test
+    public void cacheRejectsBadChecksumsAndMalformedInput() {
+        ChecksumAddressCache cache = new ChecksumAddressCache(4);
+        // One letter's case flipped from the valid 0x5aAeb6...
+        assertNull(cache.toChecksumAddress("0x5AAeb6053F3E94C9b9A09f33669435E7Ef1BeAed"));
+        assertNull(cache.toChecksumAddress("0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAe"));
+        assertNull(cache.toChecksumAddress("0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAedd"));
+        assertNull(cache.toChecksumAddress("0x5aAeb6053F3E94C9b9A09f33669435E7Ef1BeAeg"));
+        assertNull(cache.toChecksumAddress(null));
+    }
+
+    @Test
+    public void cacheIsBoundedAndCountsHits() {
+        ChecksumAddressCache cache = new ChecksumAddressCache(2);
+        cache.toChecksumAddress(EIP55_VECTORS[0]);
+        cache.toChecksumAddress(EIP55_VECTORS[0].toLowerCase(Locale.ROOT));
+        cache.toChecksumAddress(EIP55_VECTORS[1]);
+        cache.toChecksumAddress(EIP55_VECTORS[2]);
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void derivesAddressFromPublicKey() {
+        // Private key 1, i.e. the generator point.
+        byte[] privateKey = new byte[32];
+        privateKey[31] = 1;
+        Keccak256 keccak = new Keccak256();
+        byte[] address = EthAddress.fromPublicKey(Secp256k1.publicKey(privateKey, false), keccak);
+        assertEquals("0x7E5F4552091A69125d5DfCb7b8C2659029395Bdf", EthAddress.toChecksumAddress(address, keccak));
+    }
+
+    private static byte[] unhex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,68 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Signed type 2 transactions with the EIP-155 example key (0x46 repeated). Expected
+ * encodings were produced with web3j's TransactionEncoder as an independent reference.
+ */
+public class Eip1559TransactionTest {
+    private static final byte[] KEY = Hex.decode("4646464646464646464646464646464646464646464646464646464646464646");
+
+    @Test
+    public void signsEtherTransfer() throws Exception {
+        Map<String, Object> tx = new HashMap<>();
+        tx.put("chainId", 1.0);
+        tx.put("nonce", 9.0);
+        tx.put("maxPriorityFeePerGas", "0x77359400");
+        tx.put("maxFeePerGas", "100000000000");
+        tx.put("gasLimit", 21000.0);
+        tx.put("to", "0x3535353535353535353535353535353535353535");
+        tx.put("value", "0xde0b6b3a7640000");
+
+        Eip1559Transaction.Signed signed = Eip1559Transaction.sign(tx, KEY, new Keccak256());
+        assertEquals("0x02f8730109847735940085174876e800825208943535353535353535353535353535353535353535"
+                        + "880de0b6b3a764000080c080a0262ae4928c1d9449769124b9ab0a22ae502cc0935e6e47ae44aa2c142a51960a"
+                        + "a060a9a373f45bb1195d1a1693714d5a5434068c64d75ddb60d1890c776169590c",
+                signed.serialized);
+        assertEquals("0xc72d024ce5bf622efa65e2fda845d4cc3d698a39276145ae4d8fac6a8de2469a", signed.hash);
+    }
+
+    @Test
+    public void signsContractCall() throws Exception {
+        Map<String, Object> tx = new HashMap<>();
+        tx.put("type", 2.0);
+        tx.put("chainId", "0x89");
+        tx.put("nonce", 0.0);
+        tx.put("maxPriorityFeePerGas", "30000000000");
+        tx.put("maxFeePerGas", "150000000000");
+        // ethers-style alias for gasLimit
+        tx.put("gas", "0xea60");
+        tx.put("to", "0xA0b86991c6218b36c1d19D4a2e9Eb0cE3606eB48");
+        tx.put("data", "0xa9059cbb0000000000000000000000003535353535353535353535353535353535353535"
+                + "000000000000000000000000000000000000000000000000000000000000000a");
+
+        Eip1559Transaction.Signed signed = Eip1559Transaction.sign(tx, KEY, new Keccak256());
+        assertEquals("0x02f8b28189808506fc23ac008522ecb25c0082ea6094a0b86991c6218b36c1d19d4a2e9eb0ce3606eb48"
+                        + "80b844a9059cbb0000000000000000000000003535353535353535353535353535353535353535"
+                        + "000000000000000000000000000000000000000000000000000000000000000a"
+                        + "c001a05404327b5e7e573ae6e4bc46996f2dc212664822ad8473f74223ac517ba55114"
+                        + "a03345e3950c7b3d6b66d6198da5696b4500afb333c487d8b38bfb131d6849697c",
+                signed.serialized);
+        assertEquals("0xe0e67b21f87f747353d2a0e4f2e0812e81a869324f28392b59a83714caf58ea4", signed.hash);
+        assertEquals(1, signed.signature.recoveryId);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLegacyType() throws Exception {
+        Map<String, Object> tx = new HashMap<>();
+        tx.put("type", 0.0);
+        tx.put("chainId", 1.0);
+        Eip1559Transaction.sign(tx, KEY, new Keccak256());
+    }
+}
@@ -0,0 +1,75 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keccak-256 (the pre-FIPS padding Ethereum uses, not SHA3-256) known answers. The sequential
+ * byte inputs sit on both sides of the 136-byte rate to cover the block and padding edges.
+ */
+public class Keccak256Test {
+    @Test
+    public void hashesKnownStrings() {
+        assertEquals("0xc5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470", hash(""));
+        assertEquals("0x4e03657aea45a94fc7d47ba826c8d667c0d1e6e33a64a036ec44f58fa12d6c45", hash("abc"));
+        assertEquals("0x4d741b6f1eb29cb2a9b9911c82f56fa8d73b04959d3d9d222895df6c0b28aa15",
+                hash("The quick brown fox jumps over the lazy dog"));
+    }
+
+    @Test
+    public void hashesAcrossBlockBoundaries() {
+        assertEquals("0xcbdfd9dee5faad3818d6b06f95a219fd290b0e1706f6a82e5a595b9ce9faca62", hashSequence(135));
+        assertEquals("0x7ce759f1ab7f9ce437719970c26b0a66ff11fe3e38e17df89cf5d29c7d7f807e", hashSequence(136));
+        assertEquals("0xac73d4fae68b8453f764007c1a20ce95994187861f0c3227a3a8e99a73a3b1db", hashSequence(137));
+        assertEquals("0xfdf2ec49e749960d3c8521a0219af8d03e30e2b3bf19bd16150ee0eaf133d66e", hashSequence(272));
+        assertEquals("0xaca79e4146e30eb1c733f6d6060d72471c36ea4e01ebf45d7f4916249c2bbd82", hashSequence(1000));
+    }
+
+    @Test
+    public void instanceIsReusable() {
+        Keccak256 keccak = new Keccak256();
+        byte[] input = sequence(200);
+        String first = hex(keccak.digest(input));
+        keccak.digest("abc".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("0xbfb0aa97863e797943cf7c33bb7e880bb4543f3d2703c0923c6901c2af57b890", first);
+        assertEquals(first, hex(keccak.digest(input)));
+    }
+
+    @Test
+    public void digestsSlicesInPlace() {
+        byte[] input = new byte[10 + 137];
+        System.arraycopy(sequence(137), 0, input, 10, 137);
+        byte[] out = new byte[40];
+        new Keccak256().digest(input, 10, 137, out, 8);
+        byte[] hash = new byte[32];
+        System.arraycopy(out, 8, hash, 0, 32);
+        assertEquals(hashSequence(137), hex(hash));
+    }
+
+    private static String hash(String input) {
+        return hex(Keccak256.hash(input.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static String hashSequence(int length) {
+        return hex(Keccak256.hash(sequence(length)));
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder out = new StringBuilder("0x");
+        for (byte b : bytes) {
+            out.append(String.format("%02x", b & 0xff));
+        }
+        return out.toString();
+    }
+
+    private static byte[] sequence(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+}
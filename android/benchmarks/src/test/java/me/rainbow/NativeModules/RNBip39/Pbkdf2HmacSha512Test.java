@@ -0,0 +1,104 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * BIP-39 seeds against the TREZOR reference vectors (english, passphrase "TREZOR"), plus a
+ * cross-check of the raw PBKDF2 against the JDK implementation.
+ */
+public class Pbkdf2HmacSha512Test {
+    private static final String[][] TREZOR_VECTORS = {
+            {
+                    "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about",
+                    "c55257c360c07c72029aebc1b53c05ed0362ada38ead3e3e9efa3708e53495531f09a6987599d18264c1e1c92f2cf141630c7a3c4ab7c81b2f001698e7463b04",
+            },
+            {
+                    "legal winner thank year wave sausage worth useful legal winner thank yellow",
+                    "2e8905819b8723fe2c1d161860e5ee1830318dbf49a83bd451cfb8440c28bd6fa457fe1296106559a3c80937a1c1069be3a3a5bd381ee6260e8d9739fce1f607",
+            },
+            {
+                    "letter advice cage absurd amount doctor acoustic avoid letter advice cage above",
+                    "d71de856f81a8acc65e6fc851a38d4d7ec216fd0796d0a6827a3ad6ed5511a30fa280f12eb2e47ed2ac03b5c462a0358d18d69fe4f985ec81778c1b370b652a8",
+            },
+            {
+                    "zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo wrong",
+                    "ac27495480225222079d7be181583751e86f571027b0497b5b5d11218e0a8a13332572917f0f8e5a589620c6f15b11c61dee327651a14c34e18231052e48c069",
+            },
+            {
+                    "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon "
+                            + "abandon abandon abandon abandon abandon agent",
+                    "035895f2f481b1b0f01fcf8c289c794660b289981a78f8106447707fdd9666ca06da5a9a565181599b79f53b844d8a71dd9f439c52a3d7b3e8a79c906ac845fa",
+            },
+            {
+                    "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon "
+                            + "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon art",
+                    "bda85446c68413707090a52022edd26a1c9462295029f2e60cd7c4f2bbd3097170af7a4d73245cafa9c3cca8d561a7c3de6f5d4a10be8ed2a5e608d68f92fcc8",
+            },
+            {
+                    "zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo zoo vote",
+                    "dd48c104698c30cfe2b6142103248622fb7bb0ff692eebb00089b32d22484e1613912f0a5b694407be899ffd31ed3992c456cdf60f5d4564b8ba3f05a69890ad",
+            },
+            {
+                    "scheme spot photo card baby mountain device kick cradle pact join borrow",
+                    "ea725895aaae8d4c1cf682c1bfd2d358d52ed9f0f0591131b559e2724bb234fca05aa9c02c57407e04ee9dc3b454aa63fbff483a8b11de949624b9f1831a9612",
+            },
+    };
+
+    @Test
+    public void bip39SeedMatchesTrezorVectors() {
+        for (String[] vector : TREZOR_VECTORS) {
+            assertEquals(vector[0], vector[1], hex(Pbkdf2HmacSha512.bip39Seed(vector[0], "TREZOR")));
+        }
+    }
+
+    @Test
+    public void bip39SeedNormalizesToNfkd() {
+        String mnemonic = TREZOR_VECTORS[0][0];
+        // Precomposed "e with acute" vs. "e" followed by a combining acute accent.
+        assertArrayEquals(
+                Pbkdf2HmacSha512.bip39Seed(mnemonic, "caf\u00e9"),
+                Pbkdf2HmacSha512.bip39Seed(mnemonic, "cafe\u0301"));
+    }
+
+    @Test
+    public void matchesJdkPbkdf2ForRandomInputs() throws Exception {
+        SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA512");
+        Random random = new Random(42);
+        for (int i = 0; i < 20; i++) {
+            // Long passwords take the pre-hashed HMAC key path.
+            String password = randomAscii(random, 1 + random.nextInt(300));
+            String passphrase = randomAscii(random, random.nextInt(40));
+            byte[] expected = factory.generateSecret(new PBEKeySpec(
+                    password.toCharArray(),
+                    ("mnemonic" + passphrase).getBytes(StandardCharsets.UTF_8),
+                    Pbkdf2HmacSha512.BIP39_ITERATIONS,
+                    Pbkdf2HmacSha512.SEED_LENGTH * 8)).getEncoded();
+            assertArrayEquals(password, expected, Pbkdf2HmacSha512.bip39Seed(password, passphrase));
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder out = new StringBuilder();
+        for (byte b : bytes) {
+            out.append(String.format("%02x", b & 0xff));
+        }
+        return out.toString();
+    }
+
+    private static String randomAscii(Random random, int length) {
+        StringBuilder out = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            out.append((char) (' ' + random.nextInt(95)));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Deterministic ECDSA (RFC 6979, HMAC-SHA256) over SHA-256 message digests, using the
+ * widely used secp256k1 vectors from python-ecdsa / trezor-crypto. Expected signatures are
+ * low-s normalized, as Ethereum requires.
+ */
+public class Secp256k1Test {
+    // {private key, message, r, s, recovery id}
+    private static final String[][] VECTORS = {
+            {
+                    "0000000000000000000000000000000000000000000000000000000000000001",
+                    "Satoshi Nakamoto",
+                    "934b1ea10a4b3c1757e2b0c017d0b6143ce3c9a7e6a4a49860d7a6ab210ee3d8",
+                    "2442ce9d2b916064108014783e923ec36b49743e2ffa1c4496f01a512aafd9e5",
+                    "1",
+            },
+            {
+                    "0000000000000000000000000000000000000000000000000000000000000001",
+                    "All those moments will be lost in time, like tears in rain. Time to die...",
+                    "8600dbd41e348fe5c9465ab92d23e3db8b98b873beecd930736488696438cb6b",
+                    "547fe64427496db33bf66019dacbf0039c04199abb0122918601db38a72cfc21",
+                    "0",
+            },
+            {
+                    "fffffffffffffffffffffffffffffffebaaedce6af48a03bbfd25e8cd0364140",
+                    "Satoshi Nakamoto",
+                    "fd567d121db66e382991534ada77a6bd3106f0a1098c231e47993447cd6af2d0",
+                    "6b39cd0eb1bc8603e159ef5c20a5c8ad685a45b06ce9bebed3f153d10d93bed5",
+                    "0",
+            },
+            {
+                    "f8b8af8ce3c7cca5e300d33939540c10d45ce001b8f252bfbc57ba0342904181",
+                    "Alan Turing",
+                    "7063ae83e7f62bbb171798131b4a0564b956930092b33b07b395615d9ec7e15c",
+                    "58dfcc1e00a35e1572f366ffe34ba0fc47db1e7189759b9fb233c5b05ab388ea",
+                    "0",
+            },
+            {
+                    "e91671c46231f833a6406ccbea0e3e392c76c167bac1cb013f6f1013980455c2",
+                    "There is a computer disease that anybody who works with computers knows about. It's a very "
+                            + "serious disease and it interferes completely with the work. The trouble with computers is "
+                            + "that you 'play' with them!",
+                    "b552edd27580141f3b2a5463048cb7cd3e047b97c9f98076c32dbdf85a68718b",
+                    "279fa72dd19bfae05577e06c7c0c1900c371fcd5893f7e1d56a37d30174671f6",
+                    "1",
+            },
+    };
+
+    @Test
+    public void signsRfc6979Vectors() throws Exception {
+        for (String[] vector : VECTORS) {
+            Secp256k1.Signature signature = Secp256k1.sign(sha256(vector[1]), Hex.decode(vector[0]));
+            assertEquals(vector[1], "0x" + vector[2], Hex.encode(signature.r));
+            assertEquals(vector[1], "0x" + vector[3], Hex.encode(signature.s));
+            assertEquals(vector[1], Integer.parseInt(vector[4]), signature.recoveryId);
+        }
+    }
+
+    @Test
+    public void generatesRfc6979Nonce() throws Exception {
+        byte[] privateKey = Hex.decode(VECTORS[0][0]);
+        Secp256k1.Rfc6979 nonces = new Secp256k1.Rfc6979(
+                privateKey, new BigInteger(1, sha256("Satoshi Nakamoto")).mod(Secp256k1.N));
+        assertEquals(new BigInteger("8f8a276c19f4149656b280621e358cce24f5f52542772691ee69063b74f15d15", 16),
+                nonces.next());
+        nonces.wipe();
+    }
+
+    @Test
+    public void encodesPublicKeys() {
+        byte[] privateKey = Hex.decode(VECTORS[0][0]);
+        assertEquals("0x0279be667ef9dcbbac55a06295ce870b07029bfcdb2dce28d959f2815b16f81798",
+                Hex.encode(Secp256k1.publicKey(privateKey, true)));
+        assertEquals("0x0479be667ef9dcbbac55a06295ce870b07029bfcdb2dce28d959f2815b16f81798"
+                        + "483ada7726a3c4655da4fbfc0e1108a8fd17b448a68554199c47d08ffb10d4b8",
+                Hex.encode(Secp256k1.publicKey(privateKey, false)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsKeyOutOfRange() throws Exception {
+        Secp256k1.sign(new byte[32], Hex.decode("fffffffffffffffffffffffffffffffebaaedce6af48a03bbfd25e8cd0364141"));
+    }
+
+    private static byte[] sha256(String message) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(message.getBytes(StandardCharsets.UTF_8));
+    }
+}
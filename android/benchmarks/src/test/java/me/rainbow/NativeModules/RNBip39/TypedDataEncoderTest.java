@@ -0,0 +1,155 @@
+package me.rainbow.NativeModules.RNBip39;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The "Ether Mail" example from the EIP-712 specification, with maps shaped like
+ * {@code ReadableMap.toHashMap()} output (numbers arrive as doubles).
+ */
+public class TypedDataEncoderTest {
+    // keccak256("cow"), the key the EIP-712 reference implementation signs with.
+    private static final String COW_KEY = "c85ef7d79691fe79573b1a7064c19c1a9819ebdbd1faaab1a8ec92344438aaf4";
+
+    @Test
+    public void hashesEtherMail() {
+        assertEquals("0xbe609aee343fb3c4b28e1df9e632fca64fcfaede20f02e86244efddf30957bd2",
+                Hex.encode(TypedDataEncoder.hash(etherMail(true), new Keccak256())));
+    }
+
+    @Test
+    public void infersDomainTypeWhenOmitted() {
+        assertEquals(Hex.encode(TypedDataEncoder.hash(etherMail(true), new Keccak256())),
+                Hex.encode(TypedDataEncoder.hash(etherMail(false), new Keccak256())));
+    }
+
+    @Test
+    public void signsEtherMail() throws Exception {
+        byte[] digest = TypedDataEncoder.hash(etherMail(true), new Keccak256());
+        assertEquals("0x4355c47d63924e8a72e509b65029052eb6c299d53a04e167c5775fd466751c9d"
+                        + "07299936d304c153f6443dfa05f40ff007d72911b6f72307f996231605b91562" + "1c",
+                Hex.encode(Secp256k1.sign(digest, Hex.decode(COW_KEY)).toBytes()));
+    }
+
+    @Test
+    public void rejectsMissingAndMistypedValues() {
+        Map<String, Object> missingName = etherMail(true);
+        ((Map<?, ?>) message(missingName).get("to")).remove("name");
+        assertThrows(IllegalArgumentException.class, () -> TypedDataEncoder.hash(missingName, new Keccak256()));
+
+        Map<String, Object> missingStruct = etherMail(true);
+        message(missingStruct).remove("from");
+        assertThrows(IllegalArgumentException.class, () -> TypedDataEncoder.hash(missingStruct, new Keccak256()));
+
+        Map<String, Object> numberAsString = etherMail(true);
+        message(numberAsString).put("contents", 42.0);
+        assertThrows(IllegalArgumentException.class, () -> TypedDataEncoder.hash(numberAsString, new Keccak256()));
+    }
+
+    @Test
+    public void boolMustBeABoolean() {
+        assertNotEquals(Hex.encode(TypedDataEncoder.hash(single("bool", true), new Keccak256())),
+                Hex.encode(TypedDataEncoder.hash(single("bool", false), new Keccak256())));
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedDataEncoder.hash(single("bool", "true"), new Keccak256()));
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedDataEncoder.hash(single("bool", 1.0), new Keccak256()));
+    }
+
+    @Test
+    public void rangeChecksSizedIntegers() {
+        TypedDataEncoder.hash(single("uint8", 255.0), new Keccak256());
+        TypedDataEncoder.hash(single("int8", -128.0), new Keccak256());
+        TypedDataEncoder.hash(single("int8", "127"), new Keccak256());
+        TypedDataEncoder.hash(single("uint256", "0x" + repeat('f', 64)), new Keccak256());
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedDataEncoder.hash(single("uint8", 256.0), new Keccak256()));
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedDataEncoder.hash(single("int8", "-129"), new Keccak256()));
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedDataEncoder.hash(single("int8", 128.0), new Keccak256()));
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedDataEncoder.hash(single("uint32", -1.0), new Keccak256()));
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedDataEncoder.hash(single("uint256", "0x1" + repeat('0', 64)), new Keccak256()));
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedDataEncoder.hash(single("uint7", 1.0), new Keccak256()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> message(Map<String, Object> typedData) {
+        return (Map<String, Object>) typedData.get("message");
+    }
+
+    /** Typed data whose message is one field {@code value} of the given type. */
+    private static Map<String, Object> single(String type, Object value) {
+        Map<String, Object> types = new HashMap<>();
+        types.put("Value", Arrays.asList(field("value", type)));
+        Map<String, Object> message = new HashMap<>();
+        message.put("value", value);
+        Map<String, Object> typedData = new HashMap<>();
+        typedData.put("types", types);
+        typedData.put("primaryType", "Value");
+        typedData.put("domain", new HashMap<String, Object>());
+        typedData.put("message", message);
+        return typedData;
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    private static Map<String, Object> etherMail(boolean withDomainType) {
+        Map<String, Object> types = new HashMap<>();
+        if (withDomainType) {
+            types.put("EIP712Domain", Arrays.asList(
+                    field("name", "string"),
+                    field("version", "string"),
+                    field("chainId", "uint256"),
+                    field("verifyingContract", "address")));
+        }
+        types.put("Person", Arrays.asList(field("name", "string"), field("wallet", "address")));
+        types.put("Mail", Arrays.asList(field("from", "Person"), field("to", "Person"), field("contents", "string")));
+
+        Map<String, Object> domain = new HashMap<>();
+        domain.put("name", "Ether Mail");
+        domain.put("version", "1");
+        domain.put("chainId", 1.0);
+        domain.put("verifyingContract", "0xCcCCccccCCCCcCCCCCCcCcCccCcCCCcCcccccccC");
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("from", person("Cow", "0xCD2a3d9F938E13CD947Ec05AbC7FE734Df8DD826"));
+        message.put("to", person("Bob", "0xbBbBBBBbbBBBbbbBbbBbbbbBBbBbbbbBbBbbBBbB"));
+        message.put("contents", "Hello, Bob!");
+
+        Map<String, Object> typedData = new HashMap<>();
+        typedData.put("types", types);
+        typedData.put("primaryType", "Mail");
+        typedData.put("domain", domain);
+        typedData.put("message", message);
+        return typedData;
+    }
+
+    private static Map<String, Object> field(String name, String type) {
+        Map<String, Object> field = new HashMap<>();
+        field.put("name", name);
+        field.put("type", type);
+        return field;
+    }
+
+    private static Map<String, Object> person(String name, String wallet) {
+        Map<String, Object> person = new HashMap<>();
+        person.put("name", name);
+        person.put("wallet", wallet);
+        return person;
+    }
+}
@@ -0,0 +1,106 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Formatting and fade bookkeeping of the per-frame balance state, and a check that a steady
+ * state tick allocates nothing (HotSpot's per-thread allocation counter, so it needs no agent).
+ */
+public class AnimatedBalanceTest {
+    private static final long FRAME_NANOS = 30_000_000L;
+    private static final long DAY_NANOS = 24 * 60 * 60 * 1_000_000_000L;
+    private static final int COLOR = 0xFF00A0FF;
+
+    @Test
+    public void formatsFixedWidthValues() {
+        assertEquals("$1234.5000000    ", text(new AnimatedBalance(1234.5, 0, true, COLOR, false, "ETH", 0)));
+        assertEquals("0.0012345678 ETH    ", text(new AnimatedBalance(0.00123456789, 0, false, COLOR, false, "ETH", 0)));
+        // Digits past the significant ones are zero padded rather than showing float noise.
+        assertEquals("$98765432.000    ", text(new AnimatedBalance(98765432.25, 0, true, COLOR, false, "ETH", 0)));
+    }
+
+    @Test
+    public void reportsUnchangedFramesAndFadesChangedDigits() {
+        // One unit per day: a nanosecond later nothing visible has moved, a day later the
+        // integer digit has changed and lights up.
+        AnimatedBalance balance = new AnimatedBalance(1, 1, true, COLOR, false, "ETH", 0);
+        assertTrue(balance.update(0));
+        assertFalse(balance.update(1));
+
+        assertTrue(balance.update(DAY_NANOS));
+        assertEquals("$2.0000000000    ", new String(balance.text()));
+        assertTrue(balance.colorAt(1, 0) != 0);
+        // The '$' never changed, so it keeps the base color.
+        assertEquals(0, balance.colorAt(0, 0));
+    }
+
+    @Test
+    public void fadeDurationDoesNotDependOnTheTickRate() {
+        AnimatedBalance fast = new AnimatedBalance(1, 0, true, COLOR, false, "ETH", 0);
+        AnimatedBalance slow = new AnimatedBalance(1, 0, true, COLOR, false, "ETH", 0);
+        fast.update(0);
+        slow.update(0);
+        long changedAt = AnimatedBalance.RETARGET_DURATION_NANOS;
+        fast.retarget(2, 0);
+        slow.retarget(2, 0);
+        fast.update(changedAt);
+        slow.update(changedAt);
+
+        long halfway = changedAt + AnimatedBalance.FADE_DURATION_NANOS / 2;
+        // ~120 Hz against a single late frame: both land on the same level at the same time.
+        for (long t = changedAt; t < halfway; t += 8_000_000L) {
+            fast.update(t);
+        }
+        fast.update(halfway);
+        slow.update(halfway);
+        int faded = fast.colorAt(1, 0);
+        assertTrue(faded != 0);
+        assertEquals(faded, slow.colorAt(1, 0));
+
+        long done = changedAt + AnimatedBalance.FADE_DURATION_NANOS;
+        fast.update(done);
+        slow.update(done);
+        assertEquals(0, fast.colorAt(1, 0));
+        assertEquals(0, slow.colorAt(1, 0));
+    }
+
+    @Test
+    public void steadyStateTickAllocatesNothing() {
+        // A fast step changes the trailing digits every frame, so every tick takes the fade path.
+        AnimatedBalance balance = new AnimatedBalance(1000, 1_000_000, true, COLOR, false, "ETH", 0);
+        long frame = 0;
+        for (int i = 0; i < 50_000; i++) {
+            balance.update(frame += FRAME_NANOS);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        // Reading the counter allocates a little itself; measure that with an empty window.
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long overhead = threads.getThreadAllocatedBytes(threadId) - before;
+
+        int changed = 0;
+        before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            if (balance.update(frame += FRAME_NANOS)) {
+                changed++;
+            }
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(10_000, changed);
+        assertEquals("bytes allocated by 10000 ticks", overhead, allocated);
+    }
+
+    private static String text(AnimatedBalance balance) {
+        balance.update(0);
+        return new String(balance.text());
+    }
+}
@@ -0,0 +1,156 @@
+package me.rainbow.NativeModules.RNTextAnimatorPackage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The feed's buffer and retargeting, driven by a local stand-in for the price source: producer
+ * threads push random-walk batches while a consumer loop plays the frame callback.
+ */
+public class ValueFeedTest {
+    private static final int ROWS = 40;
+    private static final long FRAME_NANOS = 16_000_000L;
+
+    /** Random-walk prices for every row, pushed in batches like the JS feed does. */
+    private static final class StandInSource implements Runnable {
+        private final ValueFeedBuffer mBuffer;
+        private final int mFirstRow;
+        private final int mRows;
+        private final int mBatches;
+        final double[] lastPushed;
+        volatile int scheduleRequests;
+
+        StandInSource(ValueFeedBuffer buffer, int firstRow, int rows, int batches) {
+            mBuffer = buffer;
+            mFirstRow = firstRow;
+            mRows = rows;
+            mBatches = batches;
+            lastPushed = new double[rows];
+        }
+
+        @Override
+        public void run() {
+            Random random = new Random(mFirstRow);
+            int[] ids = new int[mRows];
+            double[] values = new double[mRows];
+            double[] prices = new double[mRows];
+            Arrays.fill(prices, 100);
+            for (int batch = 0; batch < mBatches; batch++) {
+                // Each tick moves a random subset of rows, as real price updates do.
+                int count = 0;
+                for (int row = 0; row < mRows; row++) {
+                    if (random.nextInt(3) == 0) {
+                        prices[row] += random.nextGaussian();
+                        ids[count] = mFirstRow + row;
+                        values[count] = prices[row];
+                        lastPushed[row] = prices[row];
+                        count++;
+                    }
+                }
+                if (mBuffer.push(ids, values, count)) {
+                    scheduleRequests++;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void schedulesOnceUntilDrained() {
+        ValueFeedBuffer buffer = new ValueFeedBuffer();
+        assertFalse(buffer.push(new int[0], new double[0], 0));
+        assertTrue(buffer.push(new int[] {1, 2}, new double[] {10, 20}, 2));
+        assertFalse(buffer.push(new int[] {1}, new double[] {11}, 1));
+
+        assertEquals(3, buffer.drain());
+        assertArrayEquals(new int[] {1, 2, 1}, Arrays.copyOf(buffer.drainedIds(), 3));
+        assertArrayEquals(new double[] {10, 20, 11}, Arrays.copyOf(buffer.drainedValues(), 3), 0);
+
+        assertEquals(0, buffer.drain());
+        assertTrue(buffer.push(new int[] {3}, new double[] {30}, 1));
+    }
+
+    @Test
+    public void growsPastTheInitialCapacity() {
+        ValueFeedBuffer buffer = new ValueFeedBuffer();
+        int[] ids = new int[100];
+        double[] values = new double[100];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+            values[i] = i * 2;
+        }
+        buffer.push(ids, values, 100);
+        buffer.push(ids, values, 50);
+        assertEquals(150, buffer.drain());
+        assertEquals(49, buffer.drainedIds()[149]);
+        assertEquals(98, buffer.drainedValues()[149], 0);
+    }
+
+    @Test
+    public void laterValueForTheSameViewWins() {
+        AnimatedBalance balance = new AnimatedBalance(100, 0, true, 0xFF00A0FF, false, "ETH", 0);
+        balance.retarget(120, FRAME_NANOS);
+        balance.retarget(90, FRAME_NANOS);
+        // Eases from what was on screen (100), not from the overridden target.
+        assertEquals(100, balance.valueAt(FRAME_NANOS), 1e-9);
+        assertEquals(90, balance.valueAt(FRAME_NANOS + AnimatedBalance.RETARGET_DURATION_NANOS), 1e-9);
+    }
+
+    @Test
+    public void runningAnimationsSettleOnTheLastPushedValues() throws Exception {
+        ValueFeedBuffer buffer = new ValueFeedBuffer();
+        AnimatedBalance[] balances = new AnimatedBalance[ROWS];
+        for (int row = 0; row < ROWS; row++) {
+            balances[row] = new AnimatedBalance(100, 0, true, 0xFF00A0FF, false, "ETH", 0);
+        }
+        StandInSource first = new StandInSource(buffer, 0, ROWS / 2, 2_000);
+        StandInSource second = new StandInSource(buffer, ROWS / 2, ROWS / 2, 2_000);
+        Thread[] producers = {new Thread(first), new Thread(second)};
+        boolean producing = true;
+        for (Thread producer : producers) {
+            producer.start();
+        }
+
+        long frame = 0;
+        int frames = 0;
+        int pairs = 0;
+        while (producing) {
+            producing = producers[0].isAlive() || producers[1].isAlive();
+            // What ValueFeed.doFrame does, minus the Choreographer.
+            frame += FRAME_NANOS;
+            int count = buffer.drain();
+            for (int i = 0; i < count; i++) {
+                balances[buffer.drainedIds()[i]].retarget(buffer.drainedValues()[i], frame);
+            }
+            for (AnimatedBalance balance : balances) {
+                balance.update(frame);
+            }
+            frames += count > 0 ? 1 : 0;
+            pairs += count;
+        }
+        // One last drain for pushes that raced the final isAlive check.
+        frame += FRAME_NANOS;
+        int count = buffer.drain();
+        for (int i = 0; i < count; i++) {
+            balances[buffer.drainedIds()[i]].retarget(buffer.drainedValues()[i], frame);
+        }
+
+        // Pushes coalesce: never more schedule requests than frames that had work.
+        assertTrue(first.scheduleRequests + second.scheduleRequests <= frames + (count > 0 ? 1 : 0));
+        assertTrue(pairs > 0);
+        long settled = frame + AnimatedBalance.RETARGET_DURATION_NANOS;
+        for (int row = 0; row < ROWS; row++) {
+            StandInSource source = row < ROWS / 2 ? first : second;
+            double expected = source.lastPushed[row % (ROWS / 2)];
+            if (expected != 0) {
+                assertEquals("row " + row, expected, balances[row].valueAt(settled), 1e-9);
+            }
+        }
+    }
+}
@@ -150,12 +150,14 @@ const RootWithSentry = Sentry.wrap(Root);
 AppRegistry.registerComponent('Rainbow', () => RootWithSentry);
 
 // The report param is not currently used as we have our own time tracking, but it is available at the time we want to finish the app startup report
-function onReportPrepared() {
+async function onReportPrepared() {
   PerformanceTracking.logReportSegmentRelative(PerformanceReports.appStartup, PerformanceReportSegments.appStartup.tti);
   PerformanceTracking.finishReportSegment(
     PerformanceReports.appStartup,
     PerformanceReportSegments.appStartup.initialScreenInteractiveRender
   );
+  // Read the native phases last, so warm-up that was still running at launch is included.
+  await PerformanceTracking.addNativeStartupTimeline(PerformanceReports.appStartup);
   PerformanceTracking.finishReport(PerformanceReports.appStartup);
 }
 
@@ -23,7 +23,10 @@ export const IS_STORE_INSTALL = (() => {
     return false;
   }
   try {
-    const result = NativeModules.AppInstallInfo.isStoreInstall();
+    // Android precomputes this as a constant; iOS (and older Android builds) only have the sync method.
+    const { AppInstallInfo } = NativeModules;
+    const constant = (AppInstallInfo.getConstants?.() ?? AppInstallInfo).storeInstall;
+    const result = typeof constant === 'boolean' ? constant : AppInstallInfo.isStoreInstall();
     if (typeof result === 'boolean') {
       return result;
     }
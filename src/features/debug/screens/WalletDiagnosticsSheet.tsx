@@ -13,13 +13,15 @@ import { privateKeyKey, seedPhraseKey } from '@/features/local-auth/keychainCons
 import { loadAllKeys } from '@/features/local-auth/legacyKeychain';
 import { authenticateWithPINAndCreateIfNeeded } from '@/features/local-auth/pinAuthentication';
 import AesEncryptor from '@/handlers/aesEncryption';
+import WalletTypes from '@/helpers/walletTypes';
 import useWalletsWithBalancesAndNames from '@/hooks/useWalletsWithBalancesAndNames';
 import * as i18n from '@/languages';
 import { logger, RainbowError } from '@/logger';
+import { identifyWalletType } from '@/model/wallet';
 import { useNavigation } from '@/navigation/Navigation';
 import Routes from '@/navigation/routesNames';
 import { type RootStackParamList } from '@/navigation/types';
-import { deriveAccountFromWalletInput } from '@/utils/wallet';
+import { deriveAccountFromWalletInput, deriveAddressesFromMnemonic } from '@/utils/wallet';
 
 import { DiagnosticsContent } from '../components/diagnostics/DiagnosticsContent';
 import { createAndShareStateDumpFile } from '../utils/createAndShareStateDumpFile';
@@ -61,7 +63,12 @@ export const WalletDiagnosticsSheet = () => {
                   if (userPin) {
                     secret = await encryptor.decrypt(userPin, secret);
                   }
-                  const { address, type } = await deriveAccountFromWalletInput(secret);
+                  // Only the address is shown, so seeds skip building a JS wallet for it.
+                  const type = identifyWalletType(secret);
+                  const address =
+                    type === WalletTypes.mnemonic
+                      ? (await deriveAddressesFromMnemonic(secret))[0]
+                      : (await deriveAccountFromWalletInput(secret)).address;
                   let createdAt = null;
                   let label = null;
                   Object.keys(walletsWithBalancesAndNames).some(k => {
@@ -1,4 +1,4 @@
-import { Platform } from 'react-native';
+import { NativeModules, Platform } from 'react-native';
 
 import { getAddress } from '@ethersproject/address';
 import { BigNumber, type BigNumberish } from '@ethersproject/bignumber';
@@ -252,16 +252,34 @@ export const isValidBluetoothDeviceId = (value: string): boolean => {
  * @param address The address
  * @return The checksum address, or `null` if the conversion fails.
  */
-export const toChecksumAddress = (address: string): string | null => {
-  try {
-    return getAddress(address);
-  } catch (error) {
-    return null;
+/**
+ * @desc checksum a list of addresses in one go, natively on Android
+ * @param addresses The addresses to checksum.
+ * @return The checksummed addresses in the same order, with `null` for invalid ones.
+ */
+export const toChecksumAddresses = (addresses: string[]): (string | null)[] => {
+  if (Platform.OS === 'android') {
+    return NativeModules.RNChecksumAddress.toChecksumAddresses(addresses);
   }
+  return addresses.map(address => {
+    try {
+      return getAddress(address);
+    } catch (error) {
+      return null;
+    }
+  });
 };
 
+export const toChecksumAddress = (address: string): string | null => toChecksumAddresses([address])[0];
+
 // Ensures an address is a checksummed address (just a helper for naming consistency)
-export const ensureChecksumAddress = (address: string): string => getAddress(address);
+export const ensureChecksumAddress = (address: string): string => {
+  const checksummed = toChecksumAddress(address);
+  if (!checksummed) {
+    throw new Error(`invalid address: ${address}`);
+  }
+  return checksummed;
+};
 
 /**
  * @desc estimate gas limit
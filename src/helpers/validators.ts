@@ -1,9 +1,13 @@
+import { NativeModules, Platform } from 'react-native';
+
 import { isValidAddress } from 'ethereumjs-util';
 
 import { ChainId } from '@/features/network/types/backendNetworks';
 import { getProvider, isHexStringIgnorePrefix, isValidMnemonic, resolveUnstoppableDomain } from '@/handlers/web3';
 import { sanitizeSeedPhrase } from '@/utils/formatters';
 
+const { RNBip39 } = NativeModules;
+
 // Currently supported Top Level Domains from Unstoppable Domains
 const supportedUnstoppableDomains = ['888', 'bitcoin', 'blockchain', 'coin', 'crypto', 'dao', 'nft', 'wallet', 'x', 'zil'];
 
@@ -103,6 +107,23 @@ const isValidSeedPhrase = (seedPhrase: any) => {
   return sanitizedSeedPhrase.split(' ').length >= 12 && isValidMnemonic(sanitizedSeedPhrase);
 };
 
+/**
+ * @desc validate seed phrase mnemonic as it is being typed. On Android, calls with the same
+ * session only look up the words that changed since the previous call.
+ * @param  {String} validation session id, released with releaseSeedPhraseSession
+ * @param  {String} seed phrase mnemonic
+ * @return {Boolean}
+ */
+export const isValidSeedPhraseInSession = (sessionId: string, seedPhrase: any) => {
+  if (Platform.OS !== 'android') return isValidSeedPhrase(seedPhrase);
+  const { valid }: { valid: boolean } = RNBip39.validateMnemonic(sessionId, sanitizeSeedPhrase(seedPhrase));
+  return valid;
+};
+
+export const releaseSeedPhraseSession = (sessionId: string) => {
+  if (Platform.OS === 'android') RNBip39.releaseMnemonicSession(sessionId);
+};
+
 /**
  * @desc validate private key string
  * @param  {String} private key string
@@ -122,12 +143,13 @@ export const isValidSeed = (seed: any) => seed && (isValidPrivateKey(seed) || is
 /**
  * @desc validates the input required to create a new wallet
  * @param  {String} seed, mnemonic, private key, address, ENS name, or Unstoppable name
+ * @param  {Function} seed phrase check, e.g. one bound to a validation session
  * @return {Boolean}
  */
-export const isValidWallet = (seed: any) =>
+export const isValidWallet = (seed: any, isValidMnemonicInput: (seedPhrase: any) => boolean = isValidSeedPhrase) =>
   seed &&
   (isValidPrivateKey(seed) ||
-    isValidSeedPhrase(seed) ||
+    isValidMnemonicInput(seed) ||
     isValidAddress(seed) ||
     isUnstoppableAddressFormat(seed) ||
     isENSAddressFormat(seed));
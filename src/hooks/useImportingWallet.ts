@@ -14,7 +14,13 @@ import { fetchReverseRecord } from '@/features/ens/utils/handlers';
 import { ChainId } from '@/features/network/types/backendNetworks';
 import { getProvider, isValidBluetoothDeviceId, resolveUnstoppableDomain } from '@/handlers/web3';
 import { WrappedAlert as Alert } from '@/helpers/alert';
-import { isENSAddressFormat, isUnstoppableAddressFormat, isValidWallet } from '@/helpers/validators';
+import {
+  isENSAddressFormat,
+  isUnstoppableAddressFormat,
+  isValidSeedPhraseInSession,
+  isValidWallet,
+  releaseSeedPhraseSession,
+} from '@/helpers/validators';
 import WalletBackupStepTypes from '@/helpers/walletBackupStepTypes';
 import walletBackupTypes from '@/helpers/walletBackupTypes';
 import { WalletLoadingStates } from '@/helpers/walletLoadingStates';
@@ -33,6 +39,8 @@ import { initializeWallet } from '../state/wallets/initializeWallet';
 import useIsWalletEthZero from './useIsWalletEthZero';
 import usePrevious from './usePrevious';
 
+let validationSessionCount = 0;
+
 export default function useImportingWallet({
   flowContext,
   showImportModal = true,
@@ -60,9 +68,16 @@ export default function useImportingWallet({
 
   const inputRef = useRef<TextInput>(null);
 
+  // One validation session per screen, so each keystroke only re-checks the words that changed
+  const validationSessionId = useMemo(() => `import-${++validationSessionCount}`, []);
+  useEffect(() => () => releaseSeedPhraseSession(validationSessionId), [validationSessionId]);
+
   const isSecretValid = useMemo(() => {
-    return seedPhrase !== accountAddress && isValidWallet(seedPhrase);
-  }, [accountAddress, seedPhrase]);
+    return (
+      seedPhrase !== accountAddress &&
+      isValidWallet(seedPhrase, (phrase: string) => isValidSeedPhraseInSession(validationSessionId, phrase))
+    );
+  }, [accountAddress, seedPhrase, validationSessionId]);
 
   const resetOnFailure = useCallback(() => {
     setImporting(false);
@@ -46,7 +46,12 @@ import { executeFn, type ExecuteFnParams, type Screen } from '@/state/performanc
 import { getIsDamagedWallet, getWalletWithAccount, setWalletDamaged } from '@/state/wallets/walletsStore';
 import ethereumUtils from '@/utils/ethereumUtils';
 import { sanitizeTypedData } from '@/utils/signingUtils';
-import { deriveAccountFromBluetoothHardwareWallet, deriveAccountFromMnemonic, deriveAccountFromWalletInput } from '@/utils/wallet';
+import {
+  deriveAccountFromBluetoothHardwareWallet,
+  deriveAccountFromMnemonic,
+  deriveAccountFromWalletInput,
+  discoverUsedAccountIndexes,
+} from '@/utils/wallet';
 
 import { lightModeThemeColors } from '../styles/colors';
 import profileUtils, { addressHashedColorIndex, addressHashedEmoji } from '../utils/profileUtils';
@@ -807,6 +812,16 @@ export const createWallet = async ({
     // or for hardware wallets
     if ((isHDWallet && root && isImported) || (isHardwareWallet && seed)) {
       logger.debug('[wallet]: initializing account auto discovery', {}, DebugContext.wallet);
+      const hasTxHistoryFor = async (accountAddress: string) => {
+        try {
+          return await ethereumUtils.hasPreviousTransactions(accountAddress);
+        } catch (error) {
+          logger.error(new RainbowError('[wallet]: Error getting txn history for address'), { error });
+          return false;
+        }
+      };
+      // Seeds are scanned natively where possible, with the history lookups for a batch done in parallel
+      const discoveredIndexes = isHardwareWallet ? null : await discoverUsedAccountIndexes(walletSeed, hasTxHistoryFor);
       let index = 1;
       let lookup = 0;
       // Starting on index 1, we check the tx history
@@ -833,12 +848,7 @@ export const createWallet = async ({
           }
         }
 
-        let hasTxHistory = false;
-        try {
-          hasTxHistory = await ethereumUtils.hasPreviousTransactions(nextWallet.address);
-        } catch (error) {
-          logger.error(new RainbowError('[wallet]: Error getting txn history for address'), { error });
-        }
+        const hasTxHistory = discoveredIndexes ? discoveredIndexes.has(index) : await hasTxHistoryFor(nextWallet.address);
 
         let discoveredAccount: RainbowAccount | undefined;
         let discoveredWalletId: RainbowWallet['id'] | undefined;
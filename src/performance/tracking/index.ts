@@ -1,3 +1,5 @@
+import { NativeModules, Platform } from 'react-native';
+
 import { analytics } from '@/analytics';
 import { event, type EventProperties } from '@/analytics/event';
 import { IS_PROD, IS_TEST } from '@/env';
@@ -44,6 +46,21 @@ interface Report {
 
 type Params = Record<string, unknown>;
 
+interface NativeStartupPhase {
+  name: string;
+  thread: string;
+  // Wall-clock ms, same clock as Report.startTime
+  startTime: number;
+  // For a phase still running when the timeline was read, the time it had taken so far
+  duration: number;
+  running: boolean;
+}
+
+interface NativeStartupTimeline {
+  processStartTime: number;
+  phases: NativeStartupPhase[];
+}
+
 class PerformanceTracker {
   analyticsTrackingEnabled = IS_PROD;
   // Toggle if you want console logs
@@ -161,6 +178,20 @@ class PerformanceTracker {
     };
   }
 
+  /**
+   * Adds the native cold-start phases (Application.onCreate, MainActivity.onCreate,
+   * background warm-up tasks, ...) recorded before JS was running
+   */
+  async addNativeStartupTimeline(reportName: PerformanceReport) {
+    if (Platform.OS !== 'android' || !NativeModules.RNStartupTrace) return;
+    try {
+      const nativeTimeline: NativeStartupTimeline = await NativeModules.RNStartupTrace.getTimeline();
+      this.addReportParams(reportName, { nativeTimeline });
+    } catch (error) {
+      logger.debug(`[PERFORMANCE]: Failed to read native startup timeline`, { error });
+    }
+  }
+
   finishReport(reportName: PerformanceReport, extraParams?: Params) {
     const report = this.getReport(reportName);
     if (!report) return;
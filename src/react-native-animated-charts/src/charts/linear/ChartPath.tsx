@@ -4,6 +4,7 @@ import { Gesture, GestureDetector, type LongPressGestureHandlerProperties } from
 import Animated, {
   FadeIn,
   cancelAnimation,
+  runOnJS,
   runOnUI,
   useAnimatedProps,
   useAnimatedReaction,
@@ -21,6 +22,7 @@ import Svg, { Path, type PathProps } from 'react-native-svg';
 import { triggerHaptics } from 'react-native-turbo-haptics';
 import { type ChartData, type PathData } from '../../helpers/ChartContext';
 import { requireOnWorklet, useWorkletValue } from '../../helpers/requireOnWorklet';
+import { setScrubbing } from '../../helpers/scrubFrameRate';
 import { useChartData } from '../../helpers/useChartData';
 
 // These not being set to 0 makes it harder to reason about the chart height, and I cannot see any difference when they are set to 0. Keeping in place in case it is needed for some reason.
@@ -135,15 +137,21 @@ const ChartPathInner = React.memo(
 
     useAnimatedReaction(
       () => isActive.value,
-      isActive => {
+      (isActive, wasActive) => {
         if (isActive) {
           selectedStrokeProgress.value = withTiming(1, timingFeedbackConfig || timingFeedbackDefaultConfig);
         } else {
           selectedStrokeProgress.value = withTiming(0, timingFeedbackConfig || timingFeedbackDefaultConfig);
         }
+        if (wasActive !== null && isActive !== wasActive) {
+          runOnJS(setScrubbing)(isActive);
+        }
       }
     );
 
+    // Don't leave the display at the scrub rate if the chart goes away mid-gesture.
+    useEffect(() => () => setScrubbing(false), []);
+
     const setOriginData = useCallback(
       (path: PathData, index?: number) => {
         'worklet';
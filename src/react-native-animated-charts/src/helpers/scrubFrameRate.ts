@@ -0,0 +1,14 @@
+import { NativeModules, Platform } from 'react-native';
+
+// The display picks the supported mode closest to this, so 90 Hz panels get 90.
+const SCRUB_FRAME_RATE = 120;
+
+const DisplayMetrics = Platform.OS === 'android' ? NativeModules.DisplayMetrics : undefined;
+
+/**
+ * Scrubbing redraws the path and labels every frame, so ask for the display's top refresh
+ * rate while a finger is down and hand the choice back to the system once it lifts.
+ */
+export function setScrubbing(active: boolean) {
+  DisplayMetrics?.setPreferredFrameRate(active ? SCRUB_FRAME_RATE : 0);
+}
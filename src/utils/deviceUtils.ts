@@ -5,7 +5,11 @@ import { initialWindowMetrics } from 'react-native-safe-area-context';
 const scale = Dimensions.get('screen').scale;
 const { height, width } = Dimensions.get('window');
 
-export const NAVIGATION_BAR_HEIGHT = Platform.OS === 'android' ? NativeModules.NavbarHeight.getNavigationBarHeight() / scale : 0;
+// Constants are read without a blocking native call; the bridgeless interop layer only exposes them via getConstants().
+const navbarConstants: { navigationBarHeight: number } | undefined =
+  Platform.OS === 'android' ? (NativeModules.NavbarHeight.getConstants?.() ?? NativeModules.NavbarHeight) : undefined;
+
+export const NAVIGATION_BAR_HEIGHT = navbarConstants ? navbarConstants.navigationBarHeight / scale : 0;
 
 const deviceUtils = (function () {
   const iPhone15ProHeight = 852,
@@ -1,4 +1,4 @@
-import { NativeModules, Platform } from 'react-native';
+import { DeviceEventEmitter, NativeModules, Platform } from 'react-native';
 
 import { Wallet } from '@ethersproject/wallet';
 import { mnemonicToSeed } from 'bip39';
@@ -67,6 +67,64 @@ export const deriveAccountFromMnemonic = async (mnemonic: string, index = 0): Pr
   };
 };
 
+/**
+ * Checksummed addresses of accounts `startIndex` to `startIndex + count - 1` of a seed, for flows that only need
+ * addresses. On Android the whole range is derived natively in one call, without the key leaving native code.
+ */
+export const deriveAddressesFromMnemonic = async (mnemonic: string, startIndex = 0, count = 1): Promise<string[]> => {
+  if (Platform.OS === 'android') {
+    const { addresses }: { addresses: string[] } = await RNBip39.deriveAccounts({ mnemonic, passphrase: null, startIndex, count });
+    return addresses;
+  }
+  const { root } = await deriveAccountFromMnemonic(mnemonic);
+  const addresses: string[] = [];
+  for (let index = startIndex; index < startIndex + count; index++) {
+    const wallet = root?.deriveChild(index).getWallet();
+    if (wallet) addresses.push(ensureChecksumAddress(wallet.getAddress().toString('hex')));
+  }
+  return addresses;
+};
+
+// Misses in a row before discovery stops, matching the restore loop.
+const DISCOVERY_GAP_LIMIT = 2;
+let discoveryCount = 0;
+
+/**
+ * Indexes of a seed's accounts that `isUsed` reports as used, found by the native gap-limit scan on Android:
+ * addresses are derived off the JS thread and each batch is looked up in parallel. Returns null on other
+ * platforms, where callers keep checking one index at a time.
+ */
+export const discoverUsedAccountIndexes = async (
+  mnemonic: string,
+  isUsed: (address: string) => Promise<boolean>
+): Promise<Set<number> | null> => {
+  if (Platform.OS !== 'android') return null;
+  const discoveryId = `restore-${++discoveryCount}`;
+  const usedIndexes = new Set<number>();
+  const usageRequests = DeviceEventEmitter.addListener(
+    'RNBip39AddressUsageRequest',
+    async (event: { discoveryId: string; requestId: number; addresses: string[] }) => {
+      if (event.discoveryId !== discoveryId) return;
+      try {
+        const usedFlags = await Promise.all(event.addresses.map(isUsed));
+        RNBip39.resolveAddressUsage(event.requestId, usedFlags);
+      } catch (error) {
+        RNBip39.rejectAddressUsage(event.requestId, String(error));
+      }
+    }
+  );
+  const accounts = DeviceEventEmitter.addListener('RNBip39DiscoveryAccount', (event: { discoveryId: string; accountIndex: number }) => {
+    if (event.discoveryId === discoveryId) usedIndexes.add(event.accountIndex);
+  });
+  try {
+    await RNBip39.discoverAccounts({ mnemonics: [mnemonic], passphrase: null, gapLimit: DISCOVERY_GAP_LIMIT, jobId: discoveryId });
+    return usedIndexes;
+  } finally {
+    usageRequests.remove();
+    accounts.remove();
+  }
+};
+
 export const deriveAccountFromPrivateKey = (privateKey: EthereumPrivateKey): EthereumWalletFromSeed => {
   const ethersWallet = new Wallet(addHexPrefix(privateKey));
   return {